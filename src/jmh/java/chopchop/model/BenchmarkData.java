@@ -0,0 +1,67 @@
+package chopchop.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * Generates deterministic datasets of a given size for the benchmarks.
+ * Scaling benchmarks take their size as a {@code @Param} from 1k to 1M entries.
+ */
+public class BenchmarkData {
+
+    private static final String[] WORDS = {"Salt", "Sugar", "Flour", "Butter", "Egg", "Milk", "Garlic", "Onion",
+        "Tomato", "Basil", "Chicken", "Rice", "Pepper", "Lemon", "Apricot", "Banana"};
+    private static final String[] STEPS = {"Preheat the oven", "Chop the vegetables", "Season to taste",
+        "Stir until combined", "Simmer for ten minutes", "Serve hot"};
+    private static final LocalDate FIRST_EXPIRY = LocalDate.of(2020, 1, 1);
+
+    /**
+     * Returns {@code count} ingredients with distinct names and expiry dates spread over ten years.
+     */
+    public static List<Ingredient> ingredients(int count) {
+        List<Ingredient> ingredients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ingredients.add(ingredient(i));
+        }
+        return ingredients;
+    }
+
+    /**
+     * Returns the {@code i}th ingredient of {@link #ingredients(int)}.
+     */
+    public static Ingredient ingredient(int i) {
+        String name = WORDS[i % WORDS.length] + " " + i;
+        ExpiryDate expiry = new ExpiryDate(FIRST_EXPIRY.plusDays(i % 3650).toString());
+        return new Ingredient(Name.of(name), new Quantity(1 + i % 5), expiry);
+    }
+
+    /**
+     * Returns {@code count} recipes with distinct names, each using a few of a small set of common ingredients.
+     */
+    public static List<Recipe> recipes(int count) {
+        List<Recipe> recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Ingredient> ingredients = new HashSet<>();
+            for (int j = 0; j < 4; j++) {
+                ingredients.add(new Ingredient(Name.of(WORDS[(i + j * 5) % WORDS.length]), new Quantity(1),
+                        new ExpiryDate("2030-01-01")));
+            }
+            List<Step> steps = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                steps.add(Step.of(STEPS[(i + j) % STEPS.length]));
+            }
+            recipes.add(new Recipe(Name.of(WORDS[i % WORDS.length] + " Dish " + i), ingredients, steps));
+        }
+        return recipes;
+    }
+}
@@ -0,0 +1,63 @@
+package chopchop.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chopchop.model.attributes.NameContainsKeywordsPredicate;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+
+/**
+ * Measures updating the displayed recipe list, either by filtering with a predicate or from the search index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelManagerBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("garlic", "lemon");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ModelManager model;
+    private Predicate<FoodEntry> byName;
+    private boolean isFiltered;
+
+    @Setup
+    public void setUp() {
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.setFoodEntries(BenchmarkData.recipes(size));
+        model = new ModelManager(recipeBook, new IngredientBook(), new UserPrefs());
+        byName = new NameContainsKeywordsPredicate<>(KEYWORDS);
+    }
+
+    /**
+     * Alternates between a keyword filter and showing everything, so every call re-filters the list.
+     */
+    @Benchmark
+    public int updateFilteredRecipeList() {
+        isFiltered = !isFiltered;
+        model.updateFilteredRecipeList(isFiltered ? byName : Model.PREDICATE_SHOW_ALL_RECIPES);
+        return model.getFilteredRecipeList().size();
+    }
+
+    @Benchmark
+    public int findRecipes() {
+        List<Recipe> matches = model.findRecipes(KEYWORDS);
+        model.showRecipes(matches);
+        return model.getFilteredRecipeList().size();
+    }
+}
@@ -0,0 +1,63 @@
+package chopchop.model.attributes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import chopchop.commons.util.StringUtil;
+import chopchop.model.BenchmarkData;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * Measures filtering ingredients by name, as {@code find} does.
+ *
+ * Run with the {@code gc} profiler (enabled in build.gradle) and compare {@code gc.alloc.rate.norm}:
+ * {@link #predicate} should allocate nothing per call, unlike the per-keyword {@link #containsWordIgnoreCase}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("Flour", "sugar", "BUTTER");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Ingredient> ingredients;
+    private NameContainsKeywordsPredicate<Ingredient> predicate;
+
+    @Setup
+    public void setUp() {
+        ingredients = BenchmarkData.ingredients(size);
+        predicate = new NameContainsKeywordsPredicate<>(KEYWORDS);
+    }
+
+    @Benchmark
+    public void predicate(Blackhole blackhole) {
+        for (Ingredient ingredient : ingredients) {
+            blackhole.consume(predicate.test(ingredient));
+        }
+    }
+
+    @Benchmark
+    public void containsWordIgnoreCase(Blackhole blackhole) {
+        for (Ingredient ingredient : ingredients) {
+            boolean matches = false;
+            for (String keyword : KEYWORDS) {
+                matches |= StringUtil.containsWordIgnoreCase(ingredient.getName().fullName, keyword);
+            }
+            blackhole.consume(matches);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package chopchop.model.ingredient;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chopchop.model.BenchmarkData;
+
+/**
+ * Measures membership checks and additions on a {@code UniqueIngredientList}, which should not grow with
+ * the size of the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniqueIngredientListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final UniqueIngredientList list = new UniqueIngredientList();
+    private Ingredient present;
+    private Ingredient absent;
+
+    @Setup
+    public void setUp() {
+        list.setIngredientEntries(BenchmarkData.ingredients(size));
+        present = BenchmarkData.ingredient(size / 2);
+        absent = BenchmarkData.ingredient(size);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    /**
+     * Adds an ingredient at the end of the list, then removes it again to keep the list the same size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absent);
+        list.remove(absent);
+    }
+}
@@ -0,0 +1,67 @@
+package chopchop.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.model.BenchmarkData;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+
+/**
+ * Compares loading the ingredient book from a json file and from a binary snapshot of the same data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IngredientSnapshotBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path jsonFile;
+    private Path binaryFile;
+    private JsonIngredientBookStorage jsonStorage;
+    private BinaryIngredientBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        IngredientBook ingredientBook = new IngredientBook();
+        ingredientBook.setFoodEntries(BenchmarkData.ingredients(size));
+
+        jsonFile = Files.createTempFile("ingredientbook", ".json");
+        binaryFile = Files.createTempFile("ingredientbook", ".bin");
+        jsonStorage = new JsonIngredientBookStorage(jsonFile);
+        binaryStorage = new BinaryIngredientBookStorage(binaryFile);
+        jsonStorage.saveIngredientBook(ingredientBook);
+        binaryStorage.saveIngredientBook(ingredientBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jsonFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Benchmark
+    public ReadOnlyIngredientBook loadJson() throws DataConversionException {
+        return jsonStorage.readIngredientBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyIngredientBook loadBinary() throws DataConversionException {
+        return binaryStorage.readIngredientBook().get();
+    }
+}
@@ -0,0 +1,62 @@
+package chopchop.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.model.BenchmarkData;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.RecipeBook;
+
+/**
+ * Measures saving and loading the recipe book through the streaming json storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonRecipeBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private RecipeBook recipeBook;
+    private Path dataFile;
+    private JsonRecipeBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        recipeBook = new RecipeBook();
+        recipeBook.setFoodEntries(BenchmarkData.recipes(size));
+
+        dataFile = Files.createTempFile("recipebook", ".json");
+        storage = new JsonRecipeBookStorage(dataFile);
+        storage.saveRecipeBook(recipeBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveRecipeBook(recipeBook);
+    }
+
+    @Benchmark
+    public ReadOnlyRecipeBook load() throws DataConversionException {
+        return storage.readRecipeBook().get();
+    }
+}
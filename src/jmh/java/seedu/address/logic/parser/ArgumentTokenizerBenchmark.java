@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures tokenizing the arguments of a recipe with many steps and ingredients, using the same prefixes as the
+ * recipe commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix PREFIX_NAME = new Prefix("n/");
+    private static final Prefix PREFIX_STEP = new Prefix("/step");
+    private static final Prefix PREFIX_INGREDIENT = new Prefix("/ingredient");
+    private static final Prefix PREFIX_QUANTITY = new Prefix("/qty");
+    private static final Prefix PREFIX_EXPIRY = new Prefix("/expiry");
+
+    @Param({"10", "100", "1000"})
+    private int steps;
+
+    private String args;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(" n/Recipe");
+        for (int i = 0; i < steps; i++) {
+            builder.append(" /ingredient Ingredient ").append(i).append(" /qty ").append(i)
+                    .append(" /step Stir the pot for ").append(i).append(" minutes");
+        }
+        args = builder.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_STEP, PREFIX_INGREDIENT, PREFIX_QUANTITY,
+                PREFIX_EXPIRY);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the storage paths the app goes through on startup and on every save: converting the book to and
+ * from JSON, and loading the data file into a fresh model.
+ *
+ * Converting back from JSON checks every person against the ones before it, so expect the larger sizes to be
+ * slow; that is exactly the scaling this benchmark is meant to expose.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ReadOnlyAddressBook addressBook;
+    private String json;
+    private Path dataFile;
+    private JsonAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        // AddressBook#addPerson checks for duplicates in linear time, which is too slow to set up a large book
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(90000000 + i)),
+                    new Email("person" + i + "@example.com"), new Address("Block " + i % 1000),
+                    SampleDataUtil.getTagSet(i % 2 == 0 ? "friends" : "colleagues")));
+        }
+        addressBook = () -> persons;
+        json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+
+        dataFile = Files.createTempFile("addressbook", ".json");
+        storage = new JsonAddressBookStorage(dataFile);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    @Benchmark
+    public String toJson() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    @Benchmark
+    public AddressBook fromJson() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    /**
+     * Reads the data file and builds the model from it, as {@code MainApp} does on startup.
+     */
+    @Benchmark
+    public ModelManager startupLoad() throws DataConversionException {
+        ReadOnlyAddressBook loaded = storage.readAddressBook().orElseThrow();
+        return new ModelManager(loaded, new UserPrefs());
+    }
+}
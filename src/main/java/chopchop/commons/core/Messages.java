@@ -7,6 +7,11 @@ public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_INCOMPLETE_COMMAND = "Incomplete command! Did you mean: %1$s";
+    public static final String MESSAGE_INVALID_SCRIPT_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT = "%1$s cannot be used in a script";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script %1$s";
 
     public static final String MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX = "The recipe index provided is invalid";
     public static final String MESSAGE_RECIPES_LISTED_OVERVIEW = "%1$d recipes listed!";
@@ -0,0 +1,77 @@
+package chopchop.commons.core;
+
+import static chopchop.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings for how data files are saved.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of backups kept cannot be negative";
+
+    private static final boolean DEFAULT_COMPRESS_DATA = false;
+    private static final int DEFAULT_BACKUP_COUNT = 0;
+
+    private final boolean compressData;
+    private final int backupCount;
+
+    /**
+     * Constructs a {@code StorageSettings} that saves uncompressed data files and keeps no backups.
+     */
+    public StorageSettings() {
+        compressData = DEFAULT_COMPRESS_DATA;
+        backupCount = DEFAULT_BACKUP_COUNT;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified compression and number of backups.
+     *
+     * @param compressData whether data files are saved compressed.
+     * @param backupCount how many earlier versions of each data file are kept as compressed backups.
+     */
+    public StorageSettings(boolean compressData, int backupCount) {
+        checkArgument(backupCount >= 0, MESSAGE_CONSTRAINTS);
+        this.compressData = compressData;
+        this.backupCount = backupCount;
+    }
+
+    public boolean isCompressData() {
+        return compressData;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StorageSettings)) { //this handles null as well.
+            return false;
+        }
+
+        StorageSettings o = (StorageSettings) other;
+
+        return compressData == o.compressData
+                && backupCount == o.backupCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(compressData, backupCount);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Compress data : " + compressData + "\n");
+        sb.append("Backups kept : " + backupCount);
+        return sb.toString();
+    }
+}
@@ -2,9 +2,14 @@ package chopchop.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,21 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns every element of {@code items} that occurs more than once, each reported once,
+     * in the order its second occurrence is encountered. Runs in linear time using the elements'
+     * {@code hashCode} and {@code equals}.
+     */
+    public static <T> List<T> findDuplicates(Collection<? extends T> items) {
+        requireNonNull(items);
+        Set<T> seen = new HashSet<>(items.size() * 2);
+        Set<T> duplicates = new LinkedHashSet<>();
+        for (T item : items) {
+            if (!seen.add(item)) {
+                duplicates.add(item);
+            }
+        }
+        return new ArrayList<>(duplicates);
+    }
 }
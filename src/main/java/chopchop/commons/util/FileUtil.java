@@ -1,10 +1,21 @@
 package chopchop.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -13,6 +24,12 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /** The first two bytes of every gzip stream, which no JSON or text file starts with. */
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+    private static final String BACKUP_EXTENSION = ".gz";
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -75,9 +92,133 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, creating the file if it does
+     * not exist yet.
+     *
+     * The contents are written to a temporary file next to {@code file}, forced to disk, and only then renamed
+     * over {@code file}. If the app or the machine stops part-way, {@code file} therefore holds either its old
+     * contents or the new ones in full, never a mix or a truncated file.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, false, contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but if {@code compress} is true, what
+     * {@code contentWriter} writes is gzip-compressed on its way to the file. {@link #openForReading(Path)}
+     * tells the two kinds of file apart by their first bytes, so readers need not know which one was written.
+     */
+    public static void writeAtomically(Path file, boolean compress, ContentWriter contentWriter)
+            throws IOException {
+        if (compress) {
+            writeAtomically(file, false, out -> {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+                contentWriter.writeTo(gzipOut);
+                gzipOut.finish();
+            });
+            return;
+        }
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                // closing the stream would close the channel before it is forced, so only flush it
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Opens {@code file} for reading its contents, decompressing them on the fly if the file was written
+     * compressed by {@link #writeAtomically(Path, boolean, ContentWriter)}.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), COMPRESSION_BUFFER_SIZE);
+        try {
+            if (isCompressed(in)) {
+                return new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with a gzip header, without consuming any of it.
+     */
+    private static boolean isCompressed(InputStream in) throws IOException {
+        in.mark(2);
+        boolean isCompressed = in.read() == GZIP_MAGIC_FIRST && in.read() == GZIP_MAGIC_SECOND;
+        in.reset();
+        return isCompressed;
+    }
+
+    /**
+     * Returns where the {@code generation}th backup of {@code file} is kept, the latest backup being the first.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation + BACKUP_EXTENSION);
+    }
+
+    /**
+     * Keeps a compressed copy of the current contents of {@code file} as its latest backup, before the file is
+     * overwritten. Up to {@code backupCount} backups are kept: each existing backup moves one generation back,
+     * and the oldest is deleted. Does nothing if {@code file} does not exist or {@code backupCount} is zero.
+     *
+     * @see #getBackupPath(Path, int)
+     */
+    public static void backUp(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // a compressed file is copied as it is, rather than decompressed only to be compressed again
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), COMPRESSION_BUFFER_SIZE)) {
+            writeAtomically(getBackupPath(file, 1), !isCompressed(in), in::transferTo);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
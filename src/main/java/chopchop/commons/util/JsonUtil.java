@@ -1,25 +1,38 @@
 package chopchop.commons.util;
 
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import chopchop.commons.exceptions.IllegalValueException;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 
@@ -39,13 +52,20 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes one entry of a streamed array; flushing after every entry would cost a write call each. */
+    private static ObjectWriter entryWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeAtomically(jsonFile, out ->
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -91,6 +111,108 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves {@code entries} to the specified file as a JSON object with a single array field, {@code fieldName}.
+     * Each entry is converted with {@code toJson} and written out before the next one is converted, so only one
+     * converted entry is held in memory at a time.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, String fieldName, Iterable<S> entries,
+            Function<? super S, ?> toJson) throws IOException {
+        saveJsonArrayFile(filePath, Collections.emptyMap(), fieldName, entries, toJson);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Iterable, Function)}, but also writes each of
+     * {@code otherFields} as a field of the object, ahead of the array.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, Map<String, ?> otherFields, String fieldName,
+            Iterable<S> entries, Function<? super S, ?> toJson) throws IOException {
+        saveJsonArrayFile(filePath, otherFields, fieldName, entries, toJson, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, Map, String, Iterable, Function)}, but if {@code compress} is
+     * true, the file is written compressed and without the whitespace that only makes it easier to read.
+     * All the read methods of this class detect compressed files and read them as usual.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, Map<String, ?> otherFields, String fieldName,
+            Iterable<S> entries, Function<? super S, ?> toJson, boolean compress) throws IOException {
+        requireAllNonNull(filePath, otherFields, fieldName, entries, toJson);
+
+        FileUtil.writeAtomically(filePath, compress, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (!compress) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                writeJsonArray(generator, otherFields, fieldName, entries, toJson);
+            }
+        });
+    }
+
+    private static <S> void writeJsonArray(JsonGenerator generator, Map<String, ?> otherFields, String fieldName,
+            Iterable<S> entries, Function<? super S, ?> toJson) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, ?> field : otherFields.entrySet()) {
+            generator.writeFieldName(field.getKey());
+            entryWriter.writeValue(generator, field.getValue());
+        }
+        generator.writeArrayFieldStart(fieldName);
+        for (S entry : entries) {
+            entryWriter.writeValue(generator, toJson.apply(entry));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the array field {@code fieldName} of the JSON object in the specified file, handing each element to
+     * {@code handler} as soon as it has been read. Only one element is held in memory at a time, and the file
+     * is never read into memory as a whole. Other fields of the object are skipped, except that the text of
+     * those with a plain (non-object, non-array) value is returned.
+     * @return the other fields of the object that have plain values, by name.
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if {@code handler} rejects an element.
+     */
+    public static <T> Map<String, String> readJsonArrayFile(Path filePath, String fieldName, Class<T> elementClass,
+            JsonEntryHandler<? super T> handler) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, fieldName, elementClass, handler);
+
+        Map<String, String> otherFields = new HashMap<>();
+        try (InputStream in = FileUtil.openForReading(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!name.equals(fieldName) && value.isScalarValue()) {
+                    otherFields.put(name, parser.getText());
+                    continue;
+                }
+                if (!name.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for field " + fieldName);
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    handler.handle(objectMapper.readValue(parser, elementClass));
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected objects in the array " + fieldName);
+                }
+            }
+        }
+        return otherFields;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +232,29 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, all on one line.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts {@code value}, such as a map read from JSON data, into an instance of {@code instanceClass}.
+     * @throws IllegalArgumentException if {@code value} does not have the structure of {@code instanceClass}.
+     */
+    public static <T> T convertValue(Object value, Class<T> instanceClass) {
+        return objectMapper.convertValue(value, instanceClass);
+    }
+
+    /**
+     * Receives the elements of a JSON array read by {@link #readJsonArrayFile}, one at a time.
+     */
+    @FunctionalInterface
+    public interface JsonEntryHandler<T> {
+        void handle(T entry) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
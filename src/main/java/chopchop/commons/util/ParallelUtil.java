@@ -0,0 +1,173 @@
+package chopchop.commons.util;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import chopchop.commons.exceptions.IllegalValueException;
+
+/**
+ * Utility methods for converting many entries at once on all available cores.
+ */
+public class ParallelUtil {
+
+    /** Entries are converted in chunks of this many, as splitting them finer would cost more than it saves. */
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /** The most chunks that are handed to the pool and not yet collected at any one time. */
+    static final int MAX_CHUNKS_IN_FLIGHT = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+
+    /**
+     * Converts one entry into another, such as a Jackson-friendly entry into its model type.
+     */
+    @FunctionalInterface
+    public interface Converter<A, T> {
+        T convert(A source) throws IllegalValueException;
+    }
+
+    /**
+     * Converts every entry of {@code sources} with {@code converter}, as a {@link ChunkedConversion} does.
+     * The results are in the same order as {@code sources}.
+     * {@code converter} must be safe to call from several threads at once.
+     *
+     * @throws IllegalValueException the exception thrown for the first entry that could not be converted,
+     *     exactly as if the entries had been converted one after another.
+     */
+    public static <A, T> List<T> convertAll(List<A> sources, Converter<? super A, ? extends T> converter)
+            throws IllegalValueException {
+        requireAllNonNull(sources, converter);
+
+        ChunkedConversion<A, T> conversion = new ChunkedConversion<>(converter);
+        sources.forEach(conversion::add);
+        return conversion.getResults();
+    }
+
+    /**
+     * Converts entries as they are added, such as while they are being parsed, a chunk of
+     * {@link #SEQUENTIAL_THRESHOLD} entries at a time on the common {@link ForkJoinPool}.
+     *
+     * Only the chunk being filled and up to {@link #MAX_CHUNKS_IN_FLIGHT} chunks being converted are held at once.
+     * Adding an entry waits for the oldest chunk to be converted when that many are in flight, so the number of
+     * unconverted entries held does not grow with the number of entries added. Entries are added, and the
+     * results collected, from one thread; {@code converter} must be safe to call from several threads at once.
+     */
+    public static class ChunkedConversion<A, T> {
+        private final Converter<? super A, ? extends T> converter;
+        private final Deque<ForkJoinTask<Chunk<T>>> inFlight = new ArrayDeque<>();
+        private final List<T> results = new ArrayList<>();
+        private List<A> pending = new ArrayList<>();
+        private int chunkCount = 0;
+
+        // the lowest numbered chunk that failed so far, so that chunks after it can stop early
+        private final AtomicInteger failedChunk = new AtomicInteger(Integer.MAX_VALUE);
+        private IllegalValueException failure;
+
+        /**
+         * Creates a {@code ChunkedConversion} that converts the entries added to it with {@code converter}.
+         */
+        public ChunkedConversion(Converter<? super A, ? extends T> converter) {
+            requireNonNull(converter);
+            this.converter = converter;
+        }
+
+        /**
+         * Adds {@code source} to be converted after the entries added before it.
+         */
+        public void add(A source) {
+            if (failedChunk.get() != Integer.MAX_VALUE) {
+                // an entry added before this one is invalid, so this one will never be needed
+                return;
+            }
+            pending.add(source);
+            if (pending.size() == SEQUENTIAL_THRESHOLD) {
+                submitPending();
+            }
+        }
+
+        /**
+         * Returns the converted entries, in the order they were added, once every entry has been added.
+         *
+         * @throws IllegalValueException the exception thrown for the first entry that could not be converted,
+         *     exactly as if the entries had been converted one after another.
+         */
+        public List<T> getResults() throws IllegalValueException {
+            if (inFlight.isEmpty()) {
+                // too few entries to be worth handing to another thread
+                collect(convert(pending, chunkCount++));
+            } else if (!pending.isEmpty()) {
+                submitPending();
+            }
+            pending = new ArrayList<>();
+
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.removeFirst().join());
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        }
+
+        private void submitPending() {
+            List<A> chunk = pending;
+            int number = chunkCount++;
+            pending = new ArrayList<>();
+
+            if (inFlight.size() >= MAX_CHUNKS_IN_FLIGHT) {
+                collect(inFlight.removeFirst().join());
+            }
+            inFlight.addLast(ForkJoinPool.commonPool().submit(() -> convert(chunk, number)));
+        }
+
+        private Chunk<T> convert(List<A> sources, int number) {
+            Chunk<T> chunk = new Chunk<>(sources.size());
+            for (A source : sources) {
+                if (failedChunk.get() < number) {
+                    // an earlier chunk failed, so this one's results will never be used
+                    break;
+                }
+                try {
+                    chunk.converted.add(converter.convert(source));
+                } catch (IllegalValueException e) {
+                    chunk.failure = e;
+                    failedChunk.accumulateAndGet(number, Math::min);
+                    break;
+                }
+            }
+            return chunk;
+        }
+
+        /**
+         * Takes in the results of the next chunk in order, unless an earlier chunk failed.
+         */
+        private void collect(Chunk<T> chunk) {
+            if (failure != null) {
+                return;
+            }
+            if (chunk.failure != null) {
+                failure = chunk.failure;
+            } else {
+                results.addAll(chunk.converted);
+            }
+        }
+    }
+
+    /**
+     * The results of converting one chunk of entries.
+     */
+    private static class Chunk<T> {
+        private final List<T> converted;
+        private IllegalValueException failure;
+
+        Chunk(int size) {
+            converted = new ArrayList<>(size);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package chopchop.commons.util;
+
+import static chopchop.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * Matches whole words of a sentence against a fixed set of keywords, ignoring case.
+ *
+ * The keywords are trimmed and checked once, when the matcher is built. Matching then scans the sentence
+ * in a single pass, comparing each word in place, so it creates no substrings, arrays or regex objects.
+ * Words are separated by whitespace as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class WordMatcher {
+
+    private final String[] keywords;
+
+    /**
+     * Creates a {@code WordMatcher} for the given keywords.
+     *
+     * @param keywords cannot be null, and each keyword cannot be empty and must be a single word
+     */
+    public WordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            this.keywords[i] = prepareWord(keywords.get(i));
+        }
+    }
+
+    /**
+     * Returns true if any word of {@code sentence} equals any of the keywords, ignoring case.
+     */
+    public boolean matchesAnyWord(String sentence) {
+        requireNonNull(sentence);
+
+        for (int start = skipWhitespace(sentence, 0); start < sentence.length(); ) {
+            int end = skipWord(sentence, start);
+            if (isKeyword(sentence, start, end - start)) {
+                return true;
+            }
+            start = skipWhitespace(sentence, end);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains {@code word} as a whole word, ignoring case.
+     * {@code word} must already be trimmed.
+     */
+    static boolean containsWord(String sentence, String word) {
+        for (int start = skipWhitespace(sentence, 0); start < sentence.length(); ) {
+            int end = skipWord(sentence, start);
+            if (end - start == word.length() && sentence.regionMatches(true, start, word, 0, word.length())) {
+                return true;
+            }
+            start = skipWhitespace(sentence, end);
+        }
+        return false;
+    }
+
+    /**
+     * Trims {@code word} and checks that it is a single, non-empty word.
+     */
+    public static String prepareWord(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        for (int i = 0; i < preppedWord.length(); i++) {
+            checkArgument(!isWhitespace(preppedWord.charAt(i)), "Word parameter should be a single word");
+        }
+        return preppedWord;
+    }
+
+    private boolean isKeyword(String sentence, int start, int wordLength) {
+        for (String keyword : keywords) {
+            if (keyword.length() == wordLength && sentence.regionMatches(true, start, keyword, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String sentence, int from) {
+        int i = from;
+        while (i < sentence.length() && isWhitespace(sentence.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWord(String sentence, int from) {
+        int i = from;
+        while (i < sentence.length() && !isWhitespace(sentence.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns true for the characters matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
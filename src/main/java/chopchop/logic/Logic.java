@@ -1,14 +1,18 @@
 package chopchop.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import chopchop.commons.core.GuiSettings;
+import chopchop.logic.commands.Command;
+import chopchop.logic.commands.CommandResult;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.Recipe;
 
 /**
  * API of the Logic component
@@ -24,19 +28,62 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Returns the AddressBook.
+     * Executes a command that has already been built, such as by the API server, and returns the result.
+     * @param command The command to execute.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Executes the commands as a single change and returns the result. All the commands are parsed before any of
+     * them is executed, and if any of them fails, none of their changes are kept. Each book is saved at most once,
+     * after the last of them.
+     * @param commandTexts The commands, one per line, as they would be entered by the user.
+     * @return the result of executing all the commands.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during the parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Returns the IngredientBook.
      *
-     * @see seedu.address.model.Model#getAddressBook()
+     * @see chopchop.model.Model#getIngredientBook()
      */
-    ReadOnlyAddressBook getAddressBook();
+    ReadOnlyIngredientBook getIngredientBook();
+
+    /**
+     * Returns the RecipeBook.
+     *
+     * @see chopchop.model.Model#getRecipeBook()
+     */
+    ReadOnlyRecipeBook getRecipeBook();
+
+    /**
+     * Returns the version of the IngredientBook, which changes whenever the IngredientBook is changed.
+     *
+     * @see chopchop.model.Model#getIngredientBookVersion()
+     */
+    long getIngredientBookVersion();
+
+    /**
+     * Returns the version of the RecipeBook, which changes whenever the RecipeBook is changed.
+     *
+     * @see chopchop.model.Model#getRecipeBookVersion()
+     */
+    long getRecipeBookVersion();
+
+    /** Returns an unmodifiable view of the filtered list of ingredients */
+    ObservableList<Ingredient> getFilteredIngredientList();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
-    ObservableList<Person> getFilteredPersonList();
+    /** Returns an unmodifiable view of the filtered list of recipes */
+    ObservableList<Recipe> getFilteredRecipeList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the user prefs' recipe book file path.
      */
-    Path getAddressBookFilePath();
+    Path getRecipeBookFilePath();
 
     /**
      * Returns the user prefs' GUI settings.
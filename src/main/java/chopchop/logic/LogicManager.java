@@ -0,0 +1,142 @@
+package chopchop.logic;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import chopchop.commons.core.GuiSettings;
+import chopchop.commons.core.LogsCenter;
+import chopchop.logic.commands.Command;
+import chopchop.logic.commands.CommandResult;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.logic.parser.ChopChopParser;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.Model;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.Recipe;
+import chopchop.storage.IngredientBookStorage;
+import chopchop.storage.RecipeBookStorage;
+
+/**
+ * The main LogicManager of the app.
+ */
+public class LogicManager implements Logic {
+    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /** Version that no book has, so that the first command always saves. */
+    private static final long NOT_SAVED = -1;
+
+    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+
+    private final Model model;
+    private final IngredientBookStorage ingredientBookStorage;
+    private final RecipeBookStorage recipeBookStorage;
+    private final ChopChopParser chopChopParser;
+
+    /** Versions of the ingredient and recipe books that were last saved to storage. */
+    private long savedIngredientBookVersion = NOT_SAVED;
+    private long savedRecipeBookVersion = NOT_SAVED;
+
+    /**
+     * Constructs {@code LogicManager}.
+     */
+    public LogicManager(Model model, IngredientBookStorage ingredientBookStorage,
+            RecipeBookStorage recipeBookStorage) {
+        requireAllNonNull(model, ingredientBookStorage, recipeBookStorage);
+        this.model = model;
+        this.ingredientBookStorage = ingredientBookStorage;
+        this.recipeBookStorage = recipeBookStorage;
+        chopChopParser = new ChopChopParser();
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        Command command = chopChopParser.parseCommand(commandText);
+        return execute(command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+
+        Command command = chopChopParser.parseScript(commandTexts);
+        return execute(command);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        // only the books the command changed are saved, so commands such as list and find save nothing
+        try {
+            long ingredientBookVersion = model.getIngredientBookVersion();
+            if (ingredientBookVersion != savedIngredientBookVersion) {
+                ingredientBookStorage.saveIngredientBook(model.getIngredientBook());
+                savedIngredientBookVersion = ingredientBookVersion;
+            }
+
+            long recipeBookVersion = model.getRecipeBookVersion();
+            if (recipeBookVersion != savedRecipeBookVersion) {
+                recipeBookStorage.saveRecipeBook(model.getRecipeBook());
+                savedRecipeBookVersion = recipeBookVersion;
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public ReadOnlyIngredientBook getIngredientBook() {
+        return model.getIngredientBook();
+    }
+
+    @Override
+    public ReadOnlyRecipeBook getRecipeBook() {
+        return model.getRecipeBook();
+    }
+
+    @Override
+    public long getIngredientBookVersion() {
+        return model.getIngredientBookVersion();
+    }
+
+    @Override
+    public long getRecipeBookVersion() {
+        return model.getRecipeBookVersion();
+    }
+
+    @Override
+    public ObservableList<Ingredient> getFilteredIngredientList() {
+        return model.getFilteredIngredientList();
+    }
+
+    @Override
+    public ObservableList<Recipe> getFilteredRecipeList() {
+        return model.getFilteredRecipeList();
+    }
+
+    @Override
+    public Path getRecipeBookFilePath() {
+        return model.getRecipeBookFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        model.setGuiSettings(guiSettings);
+    }
+}
@@ -1,6 +1,7 @@
 package chopchop.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static chopchop.logic.parser.CliSyntax.PREFIX_EXPIRY;
 import static chopchop.logic.parser.CliSyntax.PREFIX_INGREDIENT;
 import static chopchop.logic.parser.CliSyntax.PREFIX_QUANTITY;
 import static chopchop.logic.parser.CliSyntax.PREFIX_STEP;
@@ -19,7 +20,8 @@ public class AddRecipeCommand extends AddCommand {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a recipe to the recipe book. "
             + "Parameters: "
             + "NAME "
-            + "[" + PREFIX_INGREDIENT + "INGREDIENT [" + PREFIX_QUANTITY + " QUANTITY]]..."
+            + "[" + PREFIX_INGREDIENT + "INGREDIENT [" + PREFIX_QUANTITY + " QUANTITY] [" + PREFIX_EXPIRY
+            + " EXPIRY]]..."
             + "[" + PREFIX_STEP + "STEP]...\n"
             + "Example: " + COMMAND_WORD + " "
             + "Sugar Tomato"
@@ -50,7 +52,9 @@ public class AddRecipeCommand extends AddCommand {
         }
 
         model.addRecipe((Recipe) toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        String message = String.format(MESSAGE_SUCCESS, toAdd);
+        model.commitBooks(message);
+        return new CommandResult(message);
     }
 
     @Override
@@ -3,19 +3,35 @@ package chopchop.logic.commands;
 import chopchop.commons.core.index.Index;
 import chopchop.logic.commands.exceptions.CommandException;
 import chopchop.model.Model;
+import chopchop.model.attributes.Name;
 
+import static java.util.Objects.requireNonNull;
 
 /**
- * Deletes a recipe identified using it's displayed index from the recipe book.
+ * Deletes food entries identified either by their displayed index, or by their name.
  */
 public abstract class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
+    /** The displayed index of the entry to delete, or null if entries are deleted by name. */
     protected final Index targetIndex;
+    /** The name of the entries to delete, or null if an entry is deleted by its displayed index. */
+    protected final Name targetName;
 
     public DeleteCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
         this.targetIndex = targetIndex;
+        this.targetName = null;
+    }
+
+    /**
+     * Creates a DeleteCommand that deletes every entry named {@code targetName}, whether or not it is displayed.
+     */
+    public DeleteCommand(Name targetName) {
+        requireNonNull(targetName);
+        this.targetIndex = null;
+        this.targetName = targetName;
     }
 
     @Override
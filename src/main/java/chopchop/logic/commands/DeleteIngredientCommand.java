@@ -4,46 +4,86 @@ import chopchop.commons.core.Messages;
 import chopchop.commons.core.index.Index;
 import chopchop.logic.commands.exceptions.CommandException;
 import chopchop.model.Model;
+import chopchop.model.attributes.Name;
 import chopchop.model.ingredient.Ingredient;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Deletes an ingredient identified using it's displayed index from the ingredient book.
+ * Deletes an ingredient identified using it's displayed index from the ingredient book, or every ingredient with
+ * a given name.
  */
 public class DeleteIngredientCommand extends DeleteCommand {
 
+    public static final String COMMAND_WORD = "delete ingredient";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the ingredient identified by the index number used in the displayed recipe list.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_INGREDIENT_SUCCESS = "Deleted Ingredient: %1$s";
+    public static final String MESSAGE_NO_SUCH_INGREDIENT = "There is no ingredient named %1$s";
 
     public DeleteIngredientCommand(Index targetIndex) {
         super(targetIndex);
     }
 
+    /**
+     * Creates a DeleteIngredientCommand that deletes every ingredient named {@code targetName}.
+     */
+    public DeleteIngredientCommand(Name targetName) {
+        super(targetName);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        List<Ingredient> ingredientsToDelete = targetName != null
+                ? getIngredientsNamed(model)
+                : List.of(getIngredientAtIndex(model));
+
+        for (Ingredient ingredientToDelete : ingredientsToDelete) {
+            model.deleteIngredient(ingredientToDelete);
+        }
+        String message = String.format(MESSAGE_DELETE_INGREDIENT_SUCCESS, ingredientsToDelete.stream()
+                .map(Ingredient::toString)
+                .collect(Collectors.joining(", ")));
+        model.commitBooks(message);
+        return new CommandResult(message);
+    }
+
+    private Ingredient getIngredientAtIndex(Model model) throws CommandException {
         List<Ingredient> lastShownList = model.getFilteredIngredientList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_INGREDIENT_DISPLAYED_INDEX);
         }
 
-        Ingredient ingredientToDelete = lastShownList.get(super.targetIndex.getZeroBased());
-        model.deleteIngredient(ingredientToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_INGREDIENT_SUCCESS, ingredientToDelete));
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
+    private List<Ingredient> getIngredientsNamed(Model model) throws CommandException {
+        List<Ingredient> named = model.getIngredientBook().getFoodEntryList().stream()
+                .filter(ingredient -> ingredient.getName().equals(targetName))
+                .collect(Collectors.toList());
+
+        if (named.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_SUCH_INGREDIENT, targetName));
+        }
+
+        return named;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteIngredientCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteIngredientCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((DeleteIngredientCommand) other).targetIndex)
+                && Objects.equals(targetName, ((DeleteIngredientCommand) other).targetName)); // state check
     }
 }
@@ -4,47 +4,86 @@ import chopchop.commons.core.Messages;
 import chopchop.commons.core.index.Index;
 import chopchop.logic.commands.exceptions.CommandException;
 import chopchop.model.Model;
+import chopchop.model.attributes.Name;
 import chopchop.model.recipe.Recipe;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Deletes a recipe identified using it's displayed index from the recipe book.
+ * Deletes a recipe identified using it's displayed index from the recipe book, or every recipe with a given name.
  */
 public class DeleteRecipeCommand extends DeleteCommand {
 
+    public static final String COMMAND_WORD = "delete recipe";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the recipe identified by the index number used in the displayed recipe list.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_RECIPE_SUCCESS = "Deleted Recipe: %1$s";
+    public static final String MESSAGE_NO_SUCH_RECIPE = "There is no recipe named %1$s";
 
     public DeleteRecipeCommand(Index targetIndex) {
         super(targetIndex);
     }
 
+    /**
+     * Creates a DeleteRecipeCommand that deletes every recipe named {@code targetName}.
+     */
+    public DeleteRecipeCommand(Name targetName) {
+        super(targetName);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        List<Recipe> recipesToDelete = targetName != null
+                ? getRecipesNamed(model)
+                : List.of(getRecipeAtIndex(model));
+
+        for (Recipe recipeToDelete : recipesToDelete) {
+            model.deleteRecipe(recipeToDelete);
+        }
+        String message = String.format(MESSAGE_DELETE_RECIPE_SUCCESS, recipesToDelete.stream()
+                .map(Recipe::toString)
+                .collect(Collectors.joining(", ")));
+        model.commitBooks(message);
+        return new CommandResult(message);
+    }
+
+    private Recipe getRecipeAtIndex(Model model) throws CommandException {
         List<Recipe> lastShownList = model.getFilteredRecipeList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
         }
 
-        Recipe recipeToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteRecipe(recipeToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_RECIPE_SUCCESS, recipeToDelete));
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
+    private List<Recipe> getRecipesNamed(Model model) throws CommandException {
+        List<Recipe> named = model.getRecipeBook().getFoodEntryList().stream()
+                .filter(recipe -> recipe.getName().equals(targetName))
+                .collect(Collectors.toList());
+
+        if (named.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_SUCH_RECIPE, targetName));
+        }
+
+        return named;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteRecipeCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteRecipeCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((DeleteRecipeCommand) other).targetIndex)
+                && Objects.equals(targetName, ((DeleteRecipeCommand) other).targetName)); // state check
     }
 
 }
@@ -0,0 +1,59 @@
+package chopchop.logic.commands;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import chopchop.commons.core.Messages;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * Lists the ingredients in the ingredient book that expire within a range of dates, earliest first.
+ */
+public class FilterIngredientCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all ingredients that expire between "
+            + "the two given dates inclusive, earliest first.\n"
+            + "Parameters: FROM_DATE TO_DATE (yyyy-MM-dd)\n"
+            + "Example: " + COMMAND_WORD + " 2020-10-01 2020-10-31";
+
+    public static final String MESSAGE_INVALID_RANGE = "The start date %1$s is after the end date %2$s";
+
+    private final ExpiryDate from;
+    private final ExpiryDate to;
+
+    /**
+     * Creates a {@code FilterIngredientCommand} for ingredients expiring from {@code from} to {@code to} inclusive.
+     */
+    public FilterIngredientCommand(ExpiryDate from, ExpiryDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (from.getDate().isAfter(to.getDate())) {
+            throw new CommandException(String.format(MESSAGE_INVALID_RANGE, from, to));
+        }
+
+        List<Ingredient> expiring = model.getIngredientsExpiringBetween(from.getDate(), to.getDate());
+        model.showIngredients(expiring);
+        return new CommandResult(String.format(Messages.MESSAGE_INGREDIENT_LISTED_OVERVIEW, expiring.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterIngredientCommand // instanceof handles nulls
+                && from.equals(((FilterIngredientCommand) other).from)
+                && to.equals(((FilterIngredientCommand) other).to)); // state check
+    }
+}
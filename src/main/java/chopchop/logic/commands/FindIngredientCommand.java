@@ -12,7 +12,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class FindIngredientCommand extends FindCommand {
 
-    public static final String COMMAND_WORD = "find";
+    public static final String COMMAND_WORD = "find ingredient";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all ingredients whose content contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
@@ -26,7 +26,7 @@ public class FindIngredientCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredRecipeList(predicate);
+        model.updateFilteredIngredientList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_INGREDIENT_LISTED_OVERVIEW, model.getFilteredIngredientList().size()));
     }
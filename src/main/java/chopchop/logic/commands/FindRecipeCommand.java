@@ -1,41 +1,53 @@
 package chopchop.logic.commands;
 
+import java.util.List;
+
 import chopchop.commons.core.Messages;
 import chopchop.model.Model;
-import chopchop.model.attributes.NameContainsKeywordsPredicate;
+import chopchop.model.recipe.Recipe;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Finds and lists all recipes in address book whose name contains any of the argument keywords.
+ * Finds and lists all recipes in recipe book whose name, ingredients or steps contain any of the argument
+ * keywords, best matches first.
  * Keyword matching is case insensitive.
  */
-public class FindRecipeCommand extends FindCommand {
+public class FindRecipeCommand extends Command {
 
-    public static final String COMMAND_WORD = "find";
+    public static final String COMMAND_WORD = "find recipe";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all recipes whose content contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " sugar tomato orange";
 
-    public FindRecipeCommand(NameContainsKeywordsPredicate predicate) {
-        super(predicate);
+    private final List<String> keywords;
+
+    /**
+     * Constructs {@code FindRecipeCommand} with the given keywords.
+     *
+     * @param keywords words to search for.
+     */
+    public FindRecipeCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredRecipeList(predicate);
+        List<Recipe> matches = model.findRecipes(keywords);
+        model.showRecipes(matches);
         return new CommandResult(
-                String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, model.getFilteredRecipeList().size()));
+                String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, matches.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindRecipeCommand // instanceof handles nulls
-                && predicate.equals(((FindRecipeCommand) other).predicate)); // state check
+                && keywords.equals(((FindRecipeCommand) other).keywords)); // state check
     }
 
 }
@@ -0,0 +1,42 @@
+package chopchop.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import chopchop.model.Model;
+
+/**
+ * Lists the changes to the ingredient and recipe books that can be undone, oldest first.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the changes that can be undone, "
+            + "oldest first.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Changes that can be undone:";
+    public static final String MESSAGE_NO_HISTORY = "There are no changes to undo";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<String> history = model.getBookHistory();
+        if (history.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_HISTORY);
+        }
+
+        StringBuilder builder = new StringBuilder(MESSAGE_SUCCESS);
+        for (int i = 0; i < history.size(); i++) {
+            builder.append('\n').append(i + 1).append(". ").append(history.get(i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof HistoryCommand;
+    }
+}
@@ -0,0 +1,65 @@
+package chopchop.logic.commands;
+
+import static chopchop.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import chopchop.model.Model;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * Lists the recipes that can be cooked with the ingredients in the ingredient book, along with those
+ * that are only missing a few ingredients, fewest missing first.
+ */
+public class ListCookableRecipeCommand extends ListCommand {
+
+    public static final String COMMAND_WORD = "list cookable";
+
+    public static final int DEFAULT_MAX_MISSING = 1;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the recipes that can be cooked now, "
+            + "and those missing at most the given number of ingredients (default " + DEFAULT_MAX_MISSING + ").\n"
+            + "Parameters: [MAX_MISSING]\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_SUCCESS = "%1$d recipes can be cooked now, "
+            + "%2$d more are missing at most %3$d ingredient(s)";
+
+    private final int maxMissing;
+
+    /**
+     * Creates a {@code ListCookableRecipeCommand} that also lists recipes missing up to {@code maxMissing}
+     * ingredients.
+     */
+    public ListCookableRecipeCommand(int maxMissing) {
+        checkArgument(maxMissing >= 0, "Number of missing ingredients cannot be negative");
+        this.maxMissing = maxMissing;
+    }
+
+    public ListCookableRecipeCommand() {
+        this(DEFAULT_MAX_MISSING);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int cookable = model.getRecipesMissing(0).size();
+
+        List<Recipe> shown = new ArrayList<>();
+        for (int missing = 0; missing <= maxMissing; missing++) {
+            shown.addAll(model.getRecipesMissing(missing));
+        }
+        model.showRecipes(shown);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, cookable, shown.size() - cookable, maxMissing));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCookableRecipeCommand // instanceof handles nulls
+                && maxMissing == ((ListCookableRecipeCommand) other).maxMissing); // state check
+    }
+}
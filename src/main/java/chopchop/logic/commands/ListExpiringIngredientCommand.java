@@ -0,0 +1,49 @@
+package chopchop.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import chopchop.model.Model;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * Lists the ingredients in the ingredient book that expire before a given date, earliest first.
+ */
+public class ListExpiringIngredientCommand extends ListCommand {
+
+    public static final String COMMAND_WORD = "list expiring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all ingredients that expire before "
+            + "the given date, earliest first.\n"
+            + "Parameters: DATE (yyyy-MM-dd)\n"
+            + "Example: " + COMMAND_WORD + " 2020-10-31";
+
+    public static final String MESSAGE_SUCCESS = "%1$d ingredients expire before %2$s";
+
+    private final ExpiryDate before;
+
+    /**
+     * Creates a {@code ListExpiringIngredientCommand} for ingredients expiring strictly before {@code before}.
+     */
+    public ListExpiringIngredientCommand(ExpiryDate before) {
+        requireNonNull(before);
+        this.before = before;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Ingredient> expiring = model.getIngredientsExpiringBefore(before.getDate());
+        model.showIngredients(expiring);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, expiring.size(), before));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListExpiringIngredientCommand // instanceof handles nulls
+                && before.equals(((ListExpiringIngredientCommand) other).before)); // state check
+    }
+}
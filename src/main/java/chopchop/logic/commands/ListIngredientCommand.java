@@ -10,6 +10,8 @@ import static java.util.Objects.requireNonNull;
  */
 public class ListIngredientCommand extends ListCommand {
 
+    public static final String COMMAND_WORD = "list ingredient";
+
     public static final String MESSAGE_SUCCESS = "Listed all ingredients";
 
     @Override
@@ -10,6 +10,8 @@ import static java.util.Objects.requireNonNull;
  */
 public class ListRecipeCommand extends ListCommand {
 
+    public static final String COMMAND_WORD = "list recipe";
+
     public static final String MESSAGE_SUCCESS = "Listed all recipes";
 
     @Override
@@ -0,0 +1,40 @@
+package chopchop.logic.commands;
+
+import static chopchop.model.Model.PREDICATE_SHOW_ALL_INGREDIENTS;
+import static chopchop.model.Model.PREDICATE_SHOW_ALL_RECIPES;
+import static java.util.Objects.requireNonNull;
+
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+
+/**
+ * Redoes the change to the ingredient and recipe books that was last undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the change that was last undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is nothing to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoBooks()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        String description = model.redoBooks();
+        model.updateFilteredIngredientList(PREDICATE_SHOW_ALL_INGREDIENTS);
+        model.updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof RedoCommand;
+    }
+}
@@ -0,0 +1,84 @@
+package chopchop.logic.commands;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+
+/**
+ * Runs several commands, such as the lines of a script, as a single change to the ingredient and recipe books,
+ * which is undone and redone as one.
+ *
+ * If any of the commands fails, the changes of the commands before it are taken back, so a failed run changes
+ * nothing. The commands run one after another as if they were entered one by one, so an index given to a command
+ * refers to the list as the commands before it left it. Only commands that add or delete entries can be run this
+ * way; the results of the single commands are not shown, so commands that only list or find entries, or that
+ * undo, redo or show the history, would have no effect.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, as a single change. Blank lines and lines starting "
+            + "with # are skipped. If any of the commands fails, none of them are applied.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " groceries.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a {@code RunCommand} that runs {@code commands} in order. {@code lineNumbers} are the lines of the
+     * script that the commands were parsed from, and are used to report which of them failed.
+     */
+    public RunCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, lineNumbers);
+        assert commands.size() == lineNumbers.size() : "Every command needs a line number";
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String message = String.format(MESSAGE_SUCCESS, commands.size());
+
+        model.startBookBatch();
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(model);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i),
+                            ce.getMessage()), ce);
+                }
+            }
+            isCompleted = true;
+        } finally {
+            // also takes back the commands that ran before one that failed unexpectedly
+            if (!isCompleted) {
+                model.abortBookBatch();
+            }
+        }
+        model.endBookBatch(message);
+
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && commands.equals(((RunCommand) other).commands)
+                && lineNumbers.equals(((RunCommand) other).lineNumbers)); // state check
+    }
+}
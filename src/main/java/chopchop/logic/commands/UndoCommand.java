@@ -0,0 +1,41 @@
+package chopchop.logic.commands;
+
+import static chopchop.model.Model.PREDICATE_SHOW_ALL_INGREDIENTS;
+import static chopchop.model.Model.PREDICATE_SHOW_ALL_RECIPES;
+import static java.util.Objects.requireNonNull;
+
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+
+/**
+ * Undoes the latest change to the ingredient and recipe books.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the latest change to the ingredients "
+            + "and recipes.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is nothing to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoBooks()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        String description = model.undoBooks();
+        model.updateFilteredIngredientList(PREDICATE_SHOW_ALL_INGREDIENTS);
+        model.updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof UndoCommand;
+    }
+}
@@ -0,0 +1,42 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static chopchop.logic.parser.CliSyntax.PREFIX_EXPIRY;
+import static chopchop.logic.parser.CliSyntax.PREFIX_QUANTITY;
+
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.ingredient.Ingredient;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+
+/**
+ * Parses input arguments and creates a new AddIngredientCommand object
+ */
+public class AddIngredientCommandParser implements Parser<AddIngredientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddIngredientCommand
+     * and returns an AddIngredientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddIngredientCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_QUANTITY, PREFIX_EXPIRY);
+
+        if (argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_QUANTITY).isEmpty()
+                || argMultimap.getValue(PREFIX_EXPIRY).isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddIngredientCommand.MESSAGE_USAGE));
+        }
+
+        Name name = ParserUtil.parseName(argMultimap.getPreamble());
+        Quantity quantity = ParserUtil.parseQuantity(argMultimap.getValue(PREFIX_QUANTITY).get());
+        ExpiryDate expiryDate = ParserUtil.parseExpiryDate(argMultimap.getValue(PREFIX_EXPIRY).get());
+
+        return new AddIngredientCommand(new Ingredient(name, quantity, expiryDate));
+    }
+
+}
@@ -0,0 +1,83 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static chopchop.logic.parser.CliSyntax.PREFIX_EXPIRY;
+import static chopchop.logic.parser.CliSyntax.PREFIX_INGREDIENT;
+import static chopchop.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static chopchop.logic.parser.CliSyntax.PREFIX_STEP;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import chopchop.logic.commands.AddRecipeCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+
+/**
+ * Parses input arguments and creates a new AddRecipeCommand object
+ */
+public class AddRecipeCommandParser implements Parser<AddRecipeCommand> {
+
+    /** The quantity of a recipe ingredient that is given without one. */
+    public static final Quantity DEFAULT_QUANTITY = new Quantity(1);
+
+    /**
+     * The expiry date of a recipe ingredient that is given without one. Recipes are matched against the
+     * ingredient book by name only, so this date only needs to be valid and stored like any other.
+     */
+    public static final ExpiryDate DEFAULT_EXPIRY_DATE = ExpiryDate.of(LocalDate.of(9999, 12, 31));
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddRecipeCommand
+     * and returns an AddRecipeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddRecipeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_INGREDIENT, PREFIX_STEP);
+
+        if (argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddRecipeCommand.MESSAGE_USAGE));
+        }
+
+        Name name = ParserUtil.parseName(argMultimap.getPreamble());
+        Set<Ingredient> ingredients = new HashSet<>();
+        for (String ingredient : argMultimap.getAllValues(PREFIX_INGREDIENT)) {
+            ingredients.add(parseIngredient(ingredient));
+        }
+        List<Step> steps = new ArrayList<>();
+        for (String step : argMultimap.getAllValues(PREFIX_STEP)) {
+            steps.add(ParserUtil.parseStep(step));
+        }
+
+        return new AddRecipeCommand(new Recipe(name, ingredients, steps));
+    }
+
+    /**
+     * Parses the value of one {@code PREFIX_INGREDIENT}: the name of the ingredient, optionally followed by its
+     * quantity and expiry date.
+     */
+    private static Ingredient parseIngredient(String ingredient) throws ParseException {
+        // prefixes are only recognised after a space, and the value was trimmed
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + ingredient, PREFIX_QUANTITY, PREFIX_EXPIRY);
+
+        Name name = ParserUtil.parseName(argMultimap.getPreamble());
+        Quantity quantity = argMultimap.getValue(PREFIX_QUANTITY).isPresent()
+                ? ParserUtil.parseQuantity(argMultimap.getValue(PREFIX_QUANTITY).get())
+                : DEFAULT_QUANTITY;
+        ExpiryDate expiryDate = argMultimap.getValue(PREFIX_EXPIRY).isPresent()
+                ? ParserUtil.parseExpiryDate(argMultimap.getValue(PREFIX_EXPIRY).get())
+                : DEFAULT_EXPIRY_DATE;
+        return new Ingredient(name, quantity, expiryDate);
+    }
+
+}
@@ -0,0 +1,245 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_COMMAND_NOT_IN_SCRIPT;
+import static chopchop.commons.core.Messages.MESSAGE_INCOMPLETE_COMMAND;
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_SCRIPT_LINE;
+import static chopchop.commons.core.Messages.MESSAGE_NESTED_SCRIPT;
+import static chopchop.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import chopchop.logic.commands.AddCommand;
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.commands.AddRecipeCommand;
+import chopchop.logic.commands.Command;
+import chopchop.logic.commands.DeleteCommand;
+import chopchop.logic.commands.DeleteIngredientCommand;
+import chopchop.logic.commands.DeleteRecipeCommand;
+import chopchop.logic.commands.FilterIngredientCommand;
+import chopchop.logic.commands.FindIngredientCommand;
+import chopchop.logic.commands.FindRecipeCommand;
+import chopchop.logic.commands.HistoryCommand;
+import chopchop.logic.commands.ListCookableRecipeCommand;
+import chopchop.logic.commands.ListExpiringIngredientCommand;
+import chopchop.logic.commands.ListIngredientCommand;
+import chopchop.logic.commands.ListRecipeCommand;
+import chopchop.logic.commands.RedoCommand;
+import chopchop.logic.commands.RunCommand;
+import chopchop.logic.commands.UndoCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input.
+ *
+ * Command words may be several words long, such as {@code add recipe}, and many of them share their first word.
+ * They are compiled into a trie of words when the parser is created, each ending at the parser for its command.
+ * A command is then found by walking the trie along the words of the input, in a single scan that stops at the
+ * first word that no command continues with. The longest command word found is the command, and the rest of the
+ * input its arguments.
+ */
+public class ChopChopParser {
+
+    /**
+     * Lines of a script that start with this are comments.
+     */
+    private static final String SCRIPT_COMMENT = "#";
+
+    private final Node root = new Node("");
+
+    /**
+     * Creates a {@code ChopChopParser} for all the commands, each with a parser that is reused for every input.
+     */
+    public ChopChopParser() {
+        register(AddIngredientCommand.COMMAND_WORD, new AddIngredientCommandParser());
+        register(AddRecipeCommand.COMMAND_WORD, new AddRecipeCommandParser());
+        register(DeleteIngredientCommand.COMMAND_WORD, new DeleteIngredientCommandParser());
+        register(DeleteRecipeCommand.COMMAND_WORD, new DeleteRecipeCommandParser());
+        register(FindIngredientCommand.COMMAND_WORD, new FindIngredientCommandParser());
+        register(FindRecipeCommand.COMMAND_WORD, new FindRecipeCommandParser());
+        register(FilterIngredientCommand.COMMAND_WORD, new FilterIngredientCommandParser());
+        register(ListIngredientCommand.COMMAND_WORD, args -> new ListIngredientCommand());
+        register(ListRecipeCommand.COMMAND_WORD, args -> new ListRecipeCommand());
+        register(ListExpiringIngredientCommand.COMMAND_WORD, new ListExpiringIngredientCommandParser());
+        register(ListCookableRecipeCommand.COMMAND_WORD, new ListCookableRecipeCommandParser());
+        register(UndoCommand.COMMAND_WORD, args -> new UndoCommand());
+        register(RedoCommand.COMMAND_WORD, args -> new RedoCommand());
+        register(HistoryCommand.COMMAND_WORD, args -> new HistoryCommand());
+        register(RunCommand.COMMAND_WORD, new RunCommandParser(this));
+    }
+
+    private void register(String commandWord, Parser<?> parser) {
+        Node node = root;
+        for (String word : commandWord.split(" ")) {
+            Node child = node.getChild(word, 0, word.length());
+            if (child == null) {
+                child = new Node(word);
+                node.children.add(child);
+            }
+            node = child;
+        }
+        assert node.parser == null : "Command word registered twice: " + commandWord;
+        node.commandWord = commandWord;
+        node.parser = parser;
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        Match match = match(userInput);
+        return match.command.parser.parse(userInput.substring(match.argumentsStart));
+    }
+
+    /**
+     * Parses the lines of a script into a command that runs them in order, as a single change.
+     * Blank lines and lines starting with {@code #} are skipped. Every line is parsed before any command is run,
+     * so a script with an invalid line runs nothing.
+     *
+     * @param lines the lines of the script, the first of which is line 1
+     * @return the command that runs the lines in order
+     * @throws ParseException if any line does not conform the expected format, runs another script, or is a
+     *     command that neither adds nor deletes entries
+     */
+    public RunCommand parseScript(List<String> lines) throws ParseException {
+        requireNonNull(lines);
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            int lineNumber = i + 1;
+            if (line.isEmpty() || line.startsWith(SCRIPT_COMMENT)) {
+                continue;
+            }
+
+            Command command;
+            try {
+                Match match = match(line);
+                // checked before parsing, as parsing a run command reads the file it names
+                if (match.command.commandWord.equals(RunCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_SCRIPT);
+                }
+                command = match.command.parser.parse(line.substring(match.argumentsStart));
+
+                // a script only reports how many commands it ran, so listing, finding, undoing and the like
+                // would be lost
+                if (!(command instanceof AddCommand || command instanceof DeleteCommand)) {
+                    throw new ParseException(String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, match.command.commandWord));
+                }
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            commands.add(command);
+            lineNumbers.add(lineNumber);
+        }
+
+        return new RunCommand(commands, lineNumbers);
+    }
+
+    /**
+     * Finds the longest command word that {@code userInput} starts with.
+     * @throws ParseException if {@code userInput} does not start with a command word
+     */
+    private Match match(String userInput) throws ParseException {
+        Node node = root;
+        Node command = null;
+        int argumentsStart = 0;
+        int wordStart = skipWhitespace(userInput, 0);
+        while (wordStart < userInput.length()) {
+            int wordEnd = wordStart;
+            while (wordEnd < userInput.length() && !Character.isWhitespace(userInput.charAt(wordEnd))) {
+                wordEnd++;
+            }
+
+            Node child = node.getChild(userInput, wordStart, wordEnd);
+            if (child == null) {
+                break;
+            }
+            node = child;
+            if (node.parser != null) {
+                command = node;
+                argumentsStart = wordEnd;
+            }
+            wordStart = skipWhitespace(userInput, wordEnd);
+        }
+
+        if (command != null) {
+            return new Match(command, argumentsStart);
+        }
+        if (node != root) {
+            throw new ParseException(String.format(MESSAGE_INCOMPLETE_COMMAND,
+                    String.join(", ", node.getCommandWords(new ArrayList<>()))));
+        }
+        throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    private static int skipWhitespace(String input, int from) {
+        int i = from;
+        while (i < input.length() && Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * The command word found at the start of some input, and where its arguments start.
+     */
+    private static class Match {
+        private final Node command;
+        private final int argumentsStart;
+
+        Match(Node command, int argumentsStart) {
+            this.command = command;
+            this.argumentsStart = argumentsStart;
+        }
+    }
+
+    /**
+     * One word of one or more command words. A node has a parser if a command word ends at it.
+     */
+    private static class Node {
+        private final String word;
+        // few per node, so a list searched in order costs less than a map keyed by substrings of the input
+        private final List<Node> children = new ArrayList<>();
+        private String commandWord;
+        private Parser<?> parser;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        /**
+         * Returns the child whose word is {@code input} from {@code start} to just before {@code end}, or null if
+         * there is no such child.
+         */
+        Node getChild(String input, int start, int end) {
+            int length = end - start;
+            for (Node child : children) {
+                if (child.word.length() == length && input.regionMatches(start, child.word, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds the command words that end at this node or below it to {@code commandWords}, and returns it.
+         */
+        List<String> getCommandWords(List<String> commandWords) {
+            if (commandWord != null) {
+                commandWords.add(commandWord);
+            }
+            for (Node child : children) {
+                child.getCommandWords(commandWords);
+            }
+            return commandWords;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import chopchop.commons.core.index.Index;
+import chopchop.logic.commands.DeleteIngredientCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteIngredientCommand object
+ */
+public class DeleteIngredientCommandParser implements Parser<DeleteIngredientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteIngredientCommand
+     * and returns a DeleteIngredientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteIngredientCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new DeleteIngredientCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteIngredientCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import chopchop.logic.commands.FilterIngredientCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FilterIngredientCommand object
+ */
+public class FilterIngredientCommandParser implements Parser<FilterIngredientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterIngredientCommand
+     * and returns a FilterIngredientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterIngredientCommand parse(String args) throws ParseException {
+        List<String> dates = ParserUtil.parseKeywords(args);
+        if (dates.size() != 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterIngredientCommand.MESSAGE_USAGE));
+        }
+
+        return new FilterIngredientCommand(ParserUtil.parseExpiryDate(dates.get(0)),
+                ParserUtil.parseExpiryDate(dates.get(1)));
+    }
+
+}
@@ -0,0 +1,31 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import chopchop.logic.commands.FindIngredientCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.NameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindIngredientCommand object
+ */
+public class FindIngredientCommandParser implements Parser<FindIngredientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindIngredientCommand
+     * and returns a FindIngredientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindIngredientCommand parse(String args) throws ParseException {
+        List<String> keywords = ParserUtil.parseKeywords(args);
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindIngredientCommand.MESSAGE_USAGE));
+        }
+
+        return new FindIngredientCommand(new NameContainsKeywordsPredicate<>(keywords));
+    }
+
+}
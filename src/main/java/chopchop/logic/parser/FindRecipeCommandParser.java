@@ -0,0 +1,30 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import chopchop.logic.commands.FindRecipeCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindRecipeCommand object
+ */
+public class FindRecipeCommandParser implements Parser<FindRecipeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindRecipeCommand
+     * and returns a FindRecipeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindRecipeCommand parse(String args) throws ParseException {
+        List<String> keywords = ParserUtil.parseKeywords(args);
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRecipeCommand.MESSAGE_USAGE));
+        }
+
+        return new FindRecipeCommand(keywords);
+    }
+
+}
@@ -0,0 +1,33 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import chopchop.logic.commands.ListCookableRecipeCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCookableRecipeCommand object
+ */
+public class ListCookableRecipeCommandParser implements Parser<ListCookableRecipeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCookableRecipeCommand
+     * and returns a ListCookableRecipeCommand object for execution. The number of missing ingredients is
+     * optional.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCookableRecipeCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ListCookableRecipeCommand();
+        }
+
+        try {
+            return new ListCookableRecipeCommand(Integer.parseUnsignedInt(trimmedArgs));
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCookableRecipeCommand.MESSAGE_USAGE), nfe);
+        }
+    }
+
+}
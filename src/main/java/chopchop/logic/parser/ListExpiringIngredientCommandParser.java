@@ -0,0 +1,28 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import chopchop.logic.commands.ListExpiringIngredientCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListExpiringIngredientCommand object
+ */
+public class ListExpiringIngredientCommandParser implements Parser<ListExpiringIngredientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListExpiringIngredientCommand
+     * and returns a ListExpiringIngredientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListExpiringIngredientCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListExpiringIngredientCommand.MESSAGE_USAGE));
+        }
+
+        return new ListExpiringIngredientCommand(ParserUtil.parseExpiryDate(trimmedArgs));
+    }
+
+}
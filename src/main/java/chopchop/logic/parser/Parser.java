@@ -0,0 +1,17 @@
+package chopchop.logic.parser;
+
+import chopchop.logic.commands.Command;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Represents a Parser that is able to parse user input into a {@code Command} of type {@code T}.
+ */
+@FunctionalInterface
+public interface Parser<T extends Command> {
+
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     * @throws ParseException if {@code userInput} does not conform the expected format
+     */
+    T parse(String userInput) throws ParseException;
+}
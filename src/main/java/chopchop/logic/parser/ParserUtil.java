@@ -0,0 +1,112 @@
+package chopchop.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import chopchop.commons.core.index.Index;
+import chopchop.commons.util.StringUtil;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.attributes.Step;
+
+/**
+ * Contains utility methods used for parsing strings in the various *Parser classes.
+ */
+public class ParserUtil {
+
+    public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_NUMBER = "%1$s is not a number.";
+
+    /**
+     * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified index is invalid (not non-zero unsigned integer).
+     */
+    public static Index parseIndex(String oneBasedIndex) throws ParseException {
+        String trimmedIndex = oneBasedIndex.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedIndex)) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+        return Index.fromOneBased(Integer.parseInt(trimmedIndex));
+    }
+
+    /**
+     * Parses a {@code String name} into a {@code Name}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code name} is invalid.
+     */
+    public static Name parseName(String name) throws ParseException {
+        requireNonNull(name);
+        String trimmedName = name.trim();
+        if (!Name.isValidName(trimmedName)) {
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return Name.of(trimmedName);
+    }
+
+    /**
+     * Parses a {@code String quantity} into a {@code Quantity}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code quantity} is not a number, or is invalid.
+     */
+    public static Quantity parseQuantity(String quantity) throws ParseException {
+        requireNonNull(quantity);
+        String trimmedQuantity = quantity.trim();
+        double value;
+        try {
+            value = Double.parseDouble(trimmedQuantity);
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_NUMBER, trimmedQuantity), nfe);
+        }
+        if (!Double.isFinite(value) || !Quantity.isValidQuantity(value)) {
+            throw new ParseException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+        return new Quantity(value);
+    }
+
+    /**
+     * Parses a {@code String date} into an {@code ExpiryDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static ExpiryDate parseExpiryDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!ExpiryDate.isValidDate(trimmedDate)) {
+            throw new ParseException(ExpiryDate.MESSAGE_CONSTRAINTS);
+        }
+        return new ExpiryDate(trimmedDate);
+    }
+
+    /**
+     * Parses a {@code String step} into a {@code Step}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code step} is invalid.
+     */
+    public static Step parseStep(String step) throws ParseException {
+        requireNonNull(step);
+        String trimmedStep = step.trim();
+        if (!Step.isValidStep(trimmedStep)) {
+            throw new ParseException(Step.MESSAGE_CONSTRAINTS);
+        }
+        return Step.of(trimmedStep);
+    }
+
+    /**
+     * Splits {@code args} into its whitespace-separated words. Returns an empty list if there are none.
+     */
+    public static List<String> parseKeywords(String args) {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        return trimmedArgs.isEmpty() ? Collections.emptyList() : Arrays.asList(trimmedArgs.split("\\s+"));
+    }
+}
@@ -0,0 +1,54 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_CANNOT_READ_SCRIPT;
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import chopchop.logic.commands.RunCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    private final ChopChopParser chopChopParser;
+
+    /**
+     * Creates a {@code RunCommandParser} that parses the lines of scripts with {@code chopChopParser}.
+     */
+    public RunCommandParser(ChopChopParser chopChopParser) {
+        requireNonNull(chopChopParser);
+        this.chopChopParser = chopChopParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution. The script is read and all its lines are parsed here.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read,
+     *     or any of its lines does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path file = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(file);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, trimmedArgs), e);
+        }
+
+        return chopChopParser.parseScript(lines);
+    }
+}
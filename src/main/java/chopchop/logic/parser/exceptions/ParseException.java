@@ -0,0 +1,17 @@
+package chopchop.logic.parser.exceptions;
+
+import chopchop.commons.exceptions.IllegalValueException;
+
+/**
+ * Represents a parse error encountered by a parser.
+ */
+public class ParseException extends IllegalValueException {
+
+    public ParseException(String message) {
+        super(message);
+    }
+
+    public ParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,184 @@
+package chopchop.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * The list of entries shown to the user, drawn from a source list of a book.
+ *
+ * Usually this is the source filtered by a predicate, as with a plain {@code FilteredList}, and the
+ * displayed list is then only a view over that {@code FilteredList}: it holds no entries of its own.
+ * Queries that are answered from an index can instead {@link #show(List)} their result directly, which
+ * costs time and memory proportional to the result rather than testing a predicate against every entry
+ * in the source. Such a result is a snapshot: entries later removed from or replaced in the source are
+ * removed or replaced here too, but new entries are not added until a predicate is set again.
+ */
+public class DisplayedEntryList<T> {
+
+    private final FilteredList<T> filtered;
+    private final View view = new View();
+
+    /** The entries shown by {@link #show(List)}, or null while the filtered source is displayed. */
+    private List<T> snapshot = null;
+
+    /**
+     * Creates a {@code DisplayedEntryList} that shows every entry of {@code source}.
+     */
+    public DisplayedEntryList(ObservableList<T> source) {
+        requireNonNull(source);
+        filtered = new FilteredList<>(source);
+        filtered.addListener(this::onFilteredChanged);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the displayed entries as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return view;
+    }
+
+    /**
+     * Displays the entries of the source that satisfy {@code predicate}, and keeps following the source.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        filtered.setPredicate(predicate);
+        if (snapshot != null) {
+            List<T> shown = snapshot;
+            snapshot = null;
+            view.replaceAll(shown);
+        }
+    }
+
+    /**
+     * Displays exactly {@code entries}, in the given order, until a predicate is set again.
+     */
+    public void show(List<? extends T> entries) {
+        requireNonNull(entries);
+        List<T> shown = snapshot == null ? filtered : snapshot;
+        snapshot = new ArrayList<>(entries);
+        view.replaceAll(shown);
+    }
+
+    /**
+     * Passes changes to the filtered source on to the displayed list, unless a snapshot is shown.
+     */
+    private void onFilteredChanged(ListChangeListener.Change<? extends T> change) {
+        if (snapshot == null) {
+            view.forward(change);
+        }
+    }
+
+    /**
+     * Drops entries removed from the source out of the shown snapshot, and swaps in their replacements.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        if (snapshot == null) {
+            return;
+        }
+        Set<T> removed = new HashSet<>();
+        Map<T, T> replacements = new HashMap<>();
+        while (change.next()) {
+            List<? extends T> removedEntries = change.getRemoved();
+            removed.addAll(removedEntries);
+            // a single entry replaced in place is an edit of that entry, so follow it
+            if (change.wasReplaced() && change.getAddedSize() == 1 && removedEntries.size() == 1) {
+                replacements.put(removedEntries.get(0), change.getAddedSubList().get(0));
+            }
+        }
+        if (!removed.isEmpty()) {
+            view.dropOrReplace(removed, replacements);
+        }
+    }
+
+    /**
+     * The displayed entries: the filtered source, or the snapshot while one is shown.
+     */
+    private class View extends ObservableListBase<T> {
+
+        @Override
+        public T get(int index) {
+            return snapshot == null ? filtered.get(index) : snapshot.get(index);
+        }
+
+        @Override
+        public int size() {
+            return snapshot == null ? filtered.size() : snapshot.size();
+        }
+
+        /**
+         * Reports that every entry in {@code previous} was replaced by the entries now displayed.
+         */
+        void replaceAll(List<T> previous) {
+            beginChange();
+            nextReplace(0, size(), previous);
+            endChange();
+        }
+
+        /**
+         * Reports {@code change} to the filtered source as a change to this list.
+         */
+        void forward(ListChangeListener.Change<? extends T> change) {
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, to);
+                    }
+                }
+            }
+            endChange();
+        }
+
+        /**
+         * Removes the {@code removed} entries from the snapshot, except those with a replacement in
+         * {@code replacements}, which are swapped for it in place.
+         */
+        void dropOrReplace(Set<T> removed, Map<T, T> replacements) {
+            beginChange();
+            int index = 0;
+            while (index < snapshot.size()) {
+                T entry = snapshot.get(index);
+                if (replacements.containsKey(entry)) {
+                    snapshot.set(index, replacements.get(entry));
+                    nextSet(index, entry);
+                    index++;
+                } else if (removed.contains(entry)) {
+                    snapshot.remove(index);
+                    nextRemove(index, entry);
+                } else {
+                    index++;
+                }
+            }
+            endChange();
+        }
+    }
+}
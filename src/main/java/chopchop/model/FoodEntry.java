@@ -3,6 +3,10 @@ package chopchop.model;
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 import chopchop.model.attributes.Name;
 
+/**
+ * An immutable entry of a food book, identified by its name.
+ * Subclasses are expected to be immutable too, so that they can compute their hash codes once.
+ */
 public abstract class FoodEntry {
     protected final Name name;
 
@@ -1,12 +1,16 @@
 package chopchop.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import chopchop.model.ingredient.ReadOnlyIngredientBook;
 import chopchop.model.recipe.ReadOnlyRecipeBook;
 import javafx.collections.ObservableList;
 import chopchop.commons.core.GuiSettings;
+import chopchop.model.attributes.Name;
 import chopchop.model.recipe.Recipe;
 import chopchop.model.ingredient.Ingredient;
 
@@ -57,6 +61,12 @@ public interface Model {
     /** Returns the RecipeBook */
     ReadOnlyRecipeBook getRecipeBook();
 
+    /**
+     * Returns the version of the recipe book, which changes whenever the recipe book is changed.
+     * Commands that only read the recipe book leave it unchanged.
+     */
+    long getRecipeBookVersion();
+
     /**
      * Returns true if a recipe with the same identity as {@code recipe} exists in the recipe book.
      */
@@ -81,6 +91,17 @@ public interface Model {
      */
     void setRecipe(Recipe target, Recipe editedRecipe);
 
+    /**
+     * Returns the recipes that use an ingredient called {@code ingredientName}, ignoring case.
+     */
+    Set<Recipe> getRecipesWithIngredient(Name ingredientName);
+
+    /**
+     * Returns the recipes that are missing exactly {@code missingCount} of their ingredients from the
+     * ingredient book; {@code getRecipesMissing(0)} are the recipes that can be cooked right now.
+     */
+    Set<Recipe> getRecipesMissing(int missingCount);
+
     /** Returns an unmodifiable view of the filtered recipe list */
     ObservableList<Recipe> getFilteredRecipeList();
 
@@ -90,6 +111,17 @@ public interface Model {
      */
     void updateFilteredRecipeList(Predicate<FoodEntry> predicate);
 
+    /**
+     * Shows exactly {@code recipes}, in the given order, in the filtered recipe list.
+     * Unlike {@link #updateFilteredRecipeList(Predicate)}, this does not test every recipe.
+     */
+    void showRecipes(List<Recipe> recipes);
+
+    /**
+     * Returns the recipes whose name, ingredients or steps contain any of {@code keywords}, best matches first.
+     */
+    List<Recipe> findRecipes(List<String> keywords);
+
     /**
      * Sets the user prefs' address book file path.
      */
@@ -103,6 +135,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyIngredientBook getIngredientBook();
 
+    /**
+     * Returns the version of the ingredient book, which changes whenever the ingredient book is changed.
+     * Commands that only read the ingredient book leave it unchanged.
+     */
+    long getIngredientBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -131,10 +169,84 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Ingredient> getFilteredIngredientList();
 
+    /**
+     * Shows exactly {@code ingredients}, in the given order, in the filtered ingredient list.
+     * Unlike {@link #updateFilteredIngredientList(Predicate)}, this does not test every ingredient,
+     * so it suits results already looked up from an index.
+     */
+    void showIngredients(List<Ingredient> ingredients);
+
+    /**
+     * Returns the ingredients that expire strictly before {@code date}, earliest first.
+     */
+    List<Ingredient> getIngredientsExpiringBefore(LocalDate date);
+
+    /**
+     * Returns the ingredients that expire between {@code from} and {@code to} inclusive, earliest first.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    List<Ingredient> getIngredientsExpiringBetween(LocalDate from, LocalDate to);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredIngredientList(Predicate<FoodEntry> predicate);
 
+    /**
+     * Saves the changes made to the ingredient and recipe books since the last commit as a new version, described
+     * by {@code description}, that can be undone. Does nothing if the books have not changed.
+     */
+    void commitBooks(String description);
+
+    /**
+     * Returns true if there is a version of the books to go back to.
+     */
+    boolean canUndoBooks();
+
+    /**
+     * Returns the ingredient and recipe books to the version before the latest one.
+     *
+     * @return the description of the version that was undone.
+     * @throws IllegalStateException if there is no version to go back to.
+     */
+    String undoBooks();
+
+    /**
+     * Returns true if there is an undone version of the books to bring back.
+     */
+    boolean canRedoBooks();
+
+    /**
+     * Brings back the version of the ingredient and recipe books that was last undone.
+     *
+     * @return the description of the version that was redone.
+     * @throws IllegalStateException if there is no version to redo.
+     */
+    String redoBooks();
+
+    /**
+     * Returns the descriptions of the versions of the books that can be undone, oldest first.
+     */
+    List<String> getBookHistory();
+
+    /**
+     * Starts a batch of changes to the books, which {@link #endBookBatch(String)} makes into a single version.
+     * Until then, {@link #commitBooks(String)} does nothing, and nothing can be undone or redone.
+     * @throws IllegalStateException if a batch has already been started.
+     */
+    void startBookBatch();
+
+    /**
+     * Ends the batch of changes to the books, saving them as a single version described by {@code description}.
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void endBookBatch(String description);
+
+    /**
+     * Ends the batch of changes to the books, taking all of them back.
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void abortBookBatch();
+
 }
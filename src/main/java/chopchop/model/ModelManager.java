@@ -4,17 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import chopchop.model.attributes.Name;
 import chopchop.model.ingredient.Ingredient;
 import chopchop.model.ingredient.IngredientBook;
 import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.CookableRecipeTracker;
 import chopchop.model.recipe.ReadOnlyRecipeBook;
 import chopchop.model.recipe.Recipe;
 import chopchop.model.recipe.RecipeBook;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import chopchop.commons.core.GuiSettings;
 import chopchop.commons.core.LogsCenter;
 
@@ -27,9 +31,11 @@ public class ModelManager implements Model {
     private final RecipeBook recipeBook;
     private final IngredientBook ingredientBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Recipe> filteredRecipes;
-    private final FilteredList<Ingredient> filteredIngredients;
-
+    private final DisplayedEntryList<Recipe> filteredRecipes;
+    private final DisplayedEntryList<Ingredient> filteredIngredients;
+    /** Created by the first query, as tracking needs the body of every recipe. */
+    private CookableRecipeTracker cookableRecipes;
+    private final VersionHistory versionHistory;
 
     /**
      * Initializes a ModelManager with the given recipeBook and userPrefs.
@@ -43,11 +49,12 @@ public class ModelManager implements Model {
         logger.fine("Initializing with recipe book: " + recipeBook + " and user prefs " + userPrefs);
         this.userPrefs = new UserPrefs(userPrefs);
         this.recipeBook = new RecipeBook(recipeBook);
-        filteredRecipes = new FilteredList<Recipe>(this.recipeBook.getFoodEntryList());
+        filteredRecipes = new DisplayedEntryList<Recipe>(this.recipeBook.getFoodEntryList());
         logger.fine("Initializing with ingredient book: " + recipeBook + " and user prefs " + userPrefs);
         this.ingredientBook = new IngredientBook(ingredientBook);
-        filteredIngredients = new FilteredList<Ingredient>(this.ingredientBook.getFoodEntryList());
-
+        filteredIngredients = new DisplayedEntryList<Ingredient>(this.ingredientBook.getFoodEntryList());
+        versionHistory = new VersionHistory(this.ingredientBook, this.recipeBook,
+                VersionHistory.DEFAULT_MAX_VERSIONS);
     }
 
     public ModelManager() {
@@ -100,6 +107,11 @@ public class ModelManager implements Model {
         return recipeBook;
     }
 
+    @Override
+    public long getRecipeBookVersion() {
+        return recipeBook.getVersion();
+    }
+
     @Override
     public boolean hasRecipe(Recipe recipe) {
         requireNonNull(recipe);
@@ -124,6 +136,20 @@ public class ModelManager implements Model {
         recipeBook.setRecipe(target, editedRecipe);
     }
 
+    @Override
+    public Set<Recipe> getRecipesWithIngredient(Name ingredientName) {
+        requireNonNull(ingredientName);
+        return recipeBook.getRecipesWithIngredient(ingredientName);
+    }
+
+    @Override
+    public Set<Recipe> getRecipesMissing(int missingCount) {
+        if (cookableRecipes == null) {
+            cookableRecipes = new CookableRecipeTracker(recipeBook, ingredientBook);
+        }
+        return cookableRecipes.getRecipesMissing(missingCount);
+    }
+
     //=========== Filtered Recipe List Accessors =============================================================
 
     /**
@@ -132,7 +158,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Recipe> getFilteredRecipeList() {
-        return filteredRecipes;
+        return filteredRecipes.asUnmodifiableObservableList();
     }
 
     @Override
@@ -141,6 +167,17 @@ public class ModelManager implements Model {
         filteredRecipes.setPredicate(predicate);
     }
 
+    @Override
+    public void showRecipes(List<Recipe> recipes) {
+        requireNonNull(recipes);
+        filteredRecipes.show(recipes);
+    }
+
+    @Override
+    public List<Recipe> findRecipes(List<String> keywords) {
+        return recipeBook.findRecipes(keywords);
+    }
+
     /**
      * Sets the user prefs' address book file path.
      *
@@ -173,6 +210,11 @@ public class ModelManager implements Model {
         return ingredientBook;
     }
 
+    @Override
+    public long getIngredientBookVersion() {
+        return ingredientBook.getVersion();
+    }
+
     @Override
     public boolean hasIngredient(Ingredient person) {
         requireNonNull(person);
@@ -205,7 +247,23 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Ingredient> getFilteredIngredientList() {
-        return filteredIngredients;
+        return filteredIngredients.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public void showIngredients(List<Ingredient> ingredients) {
+        requireNonNull(ingredients);
+        filteredIngredients.show(ingredients);
+    }
+
+    @Override
+    public List<Ingredient> getIngredientsExpiringBefore(LocalDate date) {
+        return ingredientBook.getIngredientsExpiringBefore(date);
+    }
+
+    @Override
+    public List<Ingredient> getIngredientsExpiringBetween(LocalDate from, LocalDate to) {
+        return ingredientBook.getIngredientsExpiringBetween(from, to);
     }
 
 
@@ -216,6 +274,53 @@ public class ModelManager implements Model {
 
     }
 
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitBooks(String description) {
+        versionHistory.commit(description);
+    }
+
+    @Override
+    public boolean canUndoBooks() {
+        return versionHistory.canUndo();
+    }
+
+    @Override
+    public String undoBooks() {
+        return versionHistory.undo();
+    }
+
+    @Override
+    public boolean canRedoBooks() {
+        return versionHistory.canRedo();
+    }
+
+    @Override
+    public String redoBooks() {
+        return versionHistory.redo();
+    }
+
+    @Override
+    public List<String> getBookHistory() {
+        return versionHistory.getHistory();
+    }
+
+    @Override
+    public void startBookBatch() {
+        versionHistory.startBatch();
+    }
+
+    @Override
+    public void endBookBatch(String description) {
+        versionHistory.endBatch(description);
+    }
+
+    @Override
+    public void abortBookBatch() {
+        versionHistory.abortBatch();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -233,9 +338,9 @@ public class ModelManager implements Model {
 
         return recipeBook.equals(other.recipeBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredRecipes.equals(other.filteredRecipes)
+                && getFilteredRecipeList().equals(other.getFilteredRecipeList())
                 && ingredientBook.equals(other.ingredientBook)
-                && filteredIngredients.equals(other.filteredIngredients);
+                && getFilteredIngredientList().equals(other.getFilteredIngredientList());
 
     }
 
@@ -3,6 +3,7 @@ package chopchop.model;
 import java.nio.file.Path;
 
 import chopchop.commons.core.GuiSettings;
+import chopchop.commons.core.StorageSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getRecipeBookFilePath();
 
+    StorageSettings getStorageSettings();
+
 }
@@ -1,5 +1,6 @@
 package chopchop.model;
 
+import static chopchop.commons.util.CollectionUtil.findDuplicates;
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 import java.util.Iterator;
@@ -73,13 +74,16 @@ public class UniqueFoodEntryList implements Iterable<FoodEntry> {
     }
 
     /**
-     * Replaces the contents of this list with {@code FoodEntries}.
-     * {@code FoodEntries} must not contain duplicate FoodEntries.
+     * Replaces the contents of this list with {@code FoodEntries}, published as a single change.
+     * {@code FoodEntries} must not contain duplicate FoodEntries; uniqueness is checked in linear time.
+     *
+     * @throws DuplicateEntryException listing every duplicate if {@code FoodEntries} is not unique.
      */
     public void setFoodEntries(List<FoodEntry> entries) {
         requireAllNonNull(entries);
-        if (!ingredientsAreUnique(entries)) {
-            throw new DuplicateEntryException();
+        List<FoodEntry> duplicates = findDuplicates(entries);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateEntryException(duplicates);
         }
 
         internalList.setAll(entries);
@@ -108,18 +112,4 @@ public class UniqueFoodEntryList implements Iterable<FoodEntry> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code FoodEntries} contains only unique FoodEntries.
-     */
-    private boolean ingredientsAreUnique(List<FoodEntry> ingredients) {
-        for (int i = 0; i < ingredients.size() - 1; i++) {
-            for (int j = i + 1; j < ingredients.size(); j++) {
-                if (ingredients.get(i).equals(ingredients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
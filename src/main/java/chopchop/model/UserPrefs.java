@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import chopchop.commons.core.GuiSettings;
+import chopchop.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
@@ -16,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path recipeBookFilePath = Paths.get("data" , "addressbook.json");
     private Path ingredientBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageSettings storageSettings = new StorageSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRecipeBookFilePath(newUserPrefs.getRecipeBookFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +70,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.ingredientBookFilePath = indBookFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -79,12 +91,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && recipeBookFilePath.equals(o.recipeBookFilePath);
+                && recipeBookFilePath.equals(o.recipeBookFilePath)
+                && storageSettings.equals(o.storageSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, recipeBookFilePath);
+        return Objects.hash(guiSettings, recipeBookFilePath, storageSettings);
     }
 
     @Override
@@ -92,6 +105,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + recipeBookFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
 
         return sb.toString();
     }
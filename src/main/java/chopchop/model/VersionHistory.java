@@ -0,0 +1,330 @@
+package chopchop.model;
+
+import static chopchop.commons.util.AppUtil.checkArgument;
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The committed versions of the ingredient and recipe books, for undoing and redoing commands.
+ *
+ * Entries are immutable, so a version needs no copy of the books. It only holds what changed since the version
+ * before it, and shares everything else with that version. Committing a version, and undoing or redoing one,
+ * therefore cost time proportional to the size of the change rather than the size of the books. Changes are
+ * picked up by listening to the books' entry lists, so every way of changing a book is recorded.
+ *
+ * Only the latest {@code maxVersions} versions can be undone; older ones are forgotten.
+ *
+ * Several commands can be made into a single version by running them as a batch, between {@link #startBatch()}
+ * and {@link #endBatch(String)}; the versions they commit are held back, and {@link #abortBatch()} takes back all
+ * of their changes at once.
+ */
+class VersionHistory {
+
+    public static final int DEFAULT_MAX_VERSIONS = 100;
+    public static final String UNCOMMITTED_DESCRIPTION = "Uncommitted changes";
+
+    /** Changes to more entries than this are applied by replacing the whole list, rather than one by one. */
+    private static final int BULK_CHANGE_SIZE = 32;
+
+    private final TrackedList<Ingredient> ingredients;
+    private final TrackedList<Recipe> recipes;
+    private final int maxVersions;
+
+    // oldest first
+    private final Deque<Version> undoableVersions = new ArrayDeque<>();
+    // next to redo first
+    private final Deque<Version> redoableVersions = new ArrayDeque<>();
+
+    private boolean isSwitchingVersion = false;
+    private boolean isInBatch = false;
+
+    /**
+     * Creates a {@code VersionHistory} of {@code ingredientBook} and {@code recipeBook}, keeping up to
+     * {@code maxVersions} versions. Their current contents are the first version, which cannot be undone.
+     */
+    VersionHistory(IngredientBook ingredientBook, RecipeBook recipeBook, int maxVersions) {
+        requireAllNonNull(ingredientBook, recipeBook);
+        checkArgument(maxVersions > 0, "Must keep at least one version");
+
+        this.maxVersions = maxVersions;
+        ingredients = new TrackedList<>(ingredientBook.getFoodEntryList(), ingredientBook::addIngredient,
+                ingredientBook::removeIngredient, ingredientBook::setFoodEntries);
+        recipes = new TrackedList<>(recipeBook.getFoodEntryList(), recipeBook::addRecipe,
+                recipeBook::removeRecipe, recipeBook::setFoodEntries);
+    }
+
+    /**
+     * Makes the changes since the last version into a new version described by {@code description}, and forgets
+     * the versions that could be redone. Does nothing if there are no changes, or during a batch.
+     *
+     * @return true if a new version was made.
+     */
+    boolean commit(String description) {
+        requireNonNull(description);
+        if (isInBatch || !hasUncommittedChanges()) {
+            return false;
+        }
+
+        undoableVersions.addLast(new Version(description, ingredients.takePendingChanges(),
+                recipes.takePendingChanges()));
+        if (undoableVersions.size() > maxVersions) {
+            undoableVersions.removeFirst();
+        }
+        redoableVersions.clear();
+        return true;
+    }
+
+    boolean canUndo() {
+        return !isInBatch && (hasUncommittedChanges() || !undoableVersions.isEmpty());
+    }
+
+    boolean canRedo() {
+        return !isInBatch && !hasUncommittedChanges() && !redoableVersions.isEmpty();
+    }
+
+    /**
+     * Starts a batch. Changes that were not committed are committed first, so that the batch only holds its own.
+     *
+     * @throws IllegalStateException if a batch has already been started.
+     */
+    void startBatch() {
+        if (isInBatch) {
+            throw new IllegalStateException("A batch has already been started");
+        }
+        commit(UNCOMMITTED_DESCRIPTION);
+        isInBatch = true;
+    }
+
+    /**
+     * Ends the batch, making all of its changes into a single version described by {@code description}.
+     *
+     * @return true if a new version was made, which it is not if the batch changed nothing.
+     * @throws IllegalStateException if no batch has been started.
+     */
+    boolean endBatch(String description) {
+        requireNonNull(description);
+        if (!isInBatch) {
+            throw new IllegalStateException("No batch has been started");
+        }
+        isInBatch = false;
+        return commit(description);
+    }
+
+    /**
+     * Ends the batch, taking back all of its changes. Versions that could be redone before the batch can still
+     * be redone afterwards.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void abortBatch() {
+        if (!isInBatch) {
+            throw new IllegalStateException("No batch has been started");
+        }
+        isInBatch = false;
+
+        List<Change<Recipe>> recipeChanges = recipes.takePendingChanges();
+        List<Change<Ingredient>> ingredientChanges = ingredients.takePendingChanges();
+        switchVersion(() -> {
+            recipes.revert(recipeChanges);
+            ingredients.revert(ingredientChanges);
+        });
+    }
+
+    /**
+     * Returns the books to the version before the latest one. Changes that were not committed are committed
+     * first, so that they are the ones undone.
+     *
+     * @return the description of the version that was undone.
+     * @throws IllegalStateException if there is no version to go back to.
+     */
+    String undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no version to undo");
+        }
+        commit(UNCOMMITTED_DESCRIPTION);
+
+        Version version = undoableVersions.removeLast();
+        switchVersion(() -> {
+            recipes.revert(version.recipeChanges);
+            ingredients.revert(version.ingredientChanges);
+        });
+        redoableVersions.addFirst(version);
+        return version.description;
+    }
+
+    /**
+     * Brings back the version that was last undone.
+     *
+     * @return the description of the version that was redone.
+     * @throws IllegalStateException if there is no version to redo, or the books were changed after the undo.
+     */
+    String redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no version to redo");
+        }
+
+        Version version = redoableVersions.removeFirst();
+        switchVersion(() -> {
+            ingredients.apply(version.ingredientChanges);
+            recipes.apply(version.recipeChanges);
+        });
+        undoableVersions.addLast(version);
+        return version.description;
+    }
+
+    /**
+     * Returns the descriptions of the versions that can be undone, oldest first.
+     */
+    List<String> getHistory() {
+        List<String> descriptions = new ArrayList<>(undoableVersions.size());
+        undoableVersions.forEach(version -> descriptions.add(version.description));
+        return descriptions;
+    }
+
+    private boolean hasUncommittedChanges() {
+        return ingredients.hasPendingChanges() || recipes.hasPendingChanges();
+    }
+
+    private void switchVersion(Runnable changeBooks) {
+        isSwitchingVersion = true;
+        try {
+            changeBooks.run();
+        } finally {
+            isSwitchingVersion = false;
+        }
+    }
+
+    /**
+     * One committed version, as the changes made to each book since the version before it.
+     */
+    private static class Version {
+        private final String description;
+        private final List<Change<Ingredient>> ingredientChanges;
+        private final List<Change<Recipe>> recipeChanges;
+
+        Version(String description, List<Change<Ingredient>> ingredientChanges,
+                List<Change<Recipe>> recipeChanges) {
+            this.description = description;
+            this.ingredientChanges = ingredientChanges;
+            this.recipeChanges = recipeChanges;
+        }
+    }
+
+    /**
+     * The replacement of the entries starting at {@code from}: {@code removed} were taken out, and {@code added}
+     * put in their place.
+     */
+    private static class Change<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Change(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The entry list of one book, with the changes made to it since the last version and the means to change it.
+     */
+    private class TrackedList<T> {
+        private final ObservableList<T> entries;
+        private final BiConsumer<Integer, T> inserter;
+        private final Consumer<T> remover;
+        private final Consumer<List<T>> replacer;
+        private List<Change<T>> pendingChanges = new ArrayList<>();
+
+        TrackedList(ObservableList<T> entries, BiConsumer<Integer, T> inserter, Consumer<T> remover,
+                Consumer<List<T>> replacer) {
+            this.entries = entries;
+            this.inserter = inserter;
+            this.remover = remover;
+            this.replacer = replacer;
+            entries.addListener(this::record);
+        }
+
+        boolean hasPendingChanges() {
+            return !pendingChanges.isEmpty();
+        }
+
+        List<Change<T>> takePendingChanges() {
+            List<Change<T>> changes = Collections.unmodifiableList(pendingChanges);
+            pendingChanges = new ArrayList<>();
+            return changes;
+        }
+
+        private void record(ListChangeListener.Change<? extends T> change) {
+            if (isSwitchingVersion) {
+                return;
+            }
+
+            while (change.next()) {
+                int from = change.getFrom();
+                List<T> removed = new ArrayList<>();
+                List<T> added = new ArrayList<>();
+                if (change.wasPermutated()) {
+                    // the entry that was at i before the permutation is now at getPermutation(i)
+                    for (int i = from; i < change.getTo(); i++) {
+                        removed.add(change.getList().get(change.getPermutation(i)));
+                        added.add(change.getList().get(i));
+                    }
+                } else {
+                    removed.addAll(change.getRemoved());
+                    added.addAll(change.getAddedSubList());
+                }
+                pendingChanges.add(new Change<>(from, removed, added));
+            }
+        }
+
+        /**
+         * Makes {@code changes} again, in the order they were made.
+         */
+        void apply(List<Change<T>> changes) {
+            for (Change<T> change : changes) {
+                replace(change.from, change.removed, change.added);
+            }
+        }
+
+        /**
+         * Takes back {@code changes}, the latest first.
+         */
+        void revert(List<Change<T>> changes) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                Change<T> change = changes.get(i);
+                replace(change.from, change.added, change.removed);
+            }
+        }
+
+        private void replace(int from, List<T> toRemove, List<T> toAdd) {
+            if (toRemove.size() + toAdd.size() > BULK_CHANGE_SIZE) {
+                List<T> replacement = new ArrayList<>(entries);
+                replacement.subList(from, from + toRemove.size()).clear();
+                replacement.addAll(from, toAdd);
+                replacer.accept(replacement);
+                return;
+            }
+
+            toRemove.forEach(remover);
+            for (int i = 0; i < toAdd.size(); i++) {
+                inserter.accept(from + i, toAdd.get(i));
+            }
+        }
+    }
+}
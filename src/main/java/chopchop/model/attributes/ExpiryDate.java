@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 
 public class ExpiryDate {
@@ -13,6 +14,7 @@ public class ExpiryDate {
     //temporary using 1 fixed date format before parser is integrated.
     public static final DateTimeFormatter FORMAT = DateTimeFormatter.ISO_DATE;
     public static final String VALIDATION_REGEX = "^\\d{4}-\\d{2}-\\d{2}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final LocalDate date;
 
     /**
@@ -26,6 +28,18 @@ public class ExpiryDate {
         this.date = LocalDate.parse(date);
     }
 
+    private ExpiryDate(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Returns an {@code ExpiryDate} for {@code date}, without going through its string form.
+     */
+    public static ExpiryDate of(LocalDate date) {
+        requireNonNull(date);
+        return new ExpiryDate(date);
+    }
+
     /**
      * Checks if the input date is valid.
      *
@@ -33,7 +47,7 @@ public class ExpiryDate {
      * @return true if the date format is valid. Otherwise, false.
      */
     public static boolean isValidDate(String inputDate) {
-        if (!inputDate.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(inputDate).matches()) {
             return false;
         }
         try {
@@ -52,4 +66,16 @@ public class ExpiryDate {
     public String toString() {
         return this.date.toString();
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExpiryDate // instanceof handles nulls
+                && date.equals(((ExpiryDate) other).date)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
 }
@@ -0,0 +1,69 @@
+package chopchop.model.attributes;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type.
+ *
+ * Interning equal values to one shared instance saves the memory of repeated copies, such as an ingredient
+ * name used by thousands of recipes, and lets their {@code equals} succeed on the identity check.
+ * The pool only holds weak references, so values that are no longer used elsewhere can still be collected.
+ *
+ * Values are loaded on several threads at once, so the pool is split into stripes by hash, each with its own
+ * lock, and threads interning different values rarely wait on each other.
+ */
+final class Interner<T> {
+
+    /** The number of stripes; a power of two, so that a stripe can be picked by masking the hash. */
+    static final int STRIPE_COUNT = 16;
+
+    private final List<Map<T, WeakReference<T>>> stripes = new ArrayList<>(STRIPE_COUNT);
+
+    Interner() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    T intern(T value) {
+        requireNonNull(value);
+        Map<T, WeakReference<T>> stripe = getStripe(value);
+        synchronized (stripe) {
+            WeakReference<T> reference = stripe.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                stripe.put(value, new WeakReference<>(value));
+                canonical = value;
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * Returns the number of values currently in the pool, some of which may be about to be collected.
+     */
+    int size() {
+        int size = 0;
+        for (Map<T, WeakReference<T>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<T, WeakReference<T>> getStripe(T value) {
+        int hash = value.hashCode();
+        // mix the high bits in, as equal-length strings and the like often differ only there
+        return stripes.get((hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1));
+    }
+}
@@ -3,6 +3,8 @@ package chopchop.model.attributes;
 import static java.util.Objects.requireNonNull;
 import static chopchop.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a FoodEntry's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,6 +19,9 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][a-zA-Z0-9\\s\\W]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Name> POOL = new Interner<>();
 
     public final String fullName;
 
@@ -31,11 +36,22 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the shared {@code Name} for {@code name}.
+     * Use this instead of the constructor when reading names in bulk, e.g. when parsing or loading data,
+     * so that repeated names share one instance.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return POOL.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
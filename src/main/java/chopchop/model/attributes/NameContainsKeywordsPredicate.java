@@ -3,7 +3,7 @@ package chopchop.model.attributes;
 import java.util.List;
 import java.util.function.Predicate;
 
-import chopchop.commons.util.StringUtil;
+import chopchop.commons.util.WordMatcher;
 import chopchop.model.FoodEntry;
 
 /**
@@ -11,15 +11,20 @@ import chopchop.model.FoodEntry;
  */
 public class NameContainsKeywordsPredicate <F extends FoodEntry> implements Predicate<F> {
     private final List<String> keywords;
+    private final WordMatcher matcher;
 
+    /**
+     * Creates a predicate matching names that contain any of {@code keywords}.
+     * Each keyword cannot be empty and must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new WordMatcher(keywords);
     }
 
     @Override
     public boolean test(F fe) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(fe.getName().fullName, keyword));
+        return matcher.matchesAnyWord(fe.getName().fullName);
     }
 
     @Override
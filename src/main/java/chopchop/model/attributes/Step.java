@@ -3,6 +3,8 @@ package chopchop.model.attributes;
 import static java.util.Objects.requireNonNull;
 import static chopchop.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Recipe's name in ChopChop.
  * Guarantees: immutable; is valid as declared in {@link #isValidStep(String)}
@@ -12,6 +14,9 @@ public class Step {
     public static final String MESSAGE_CONSTRAINTS =
             "Recipe steps should only contain alphanumeric characters and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "^(?=\\s*\\S).*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Step> POOL = new Interner<>();
 
     public final String step;
 
@@ -26,11 +31,22 @@ public class Step {
         this.step = step;
     }
 
+    /**
+     * Returns the shared {@code Step} for {@code step}.
+     * Use this instead of the constructor when reading steps in bulk, e.g. when parsing or loading data,
+     * so that commonly repeated steps share one instance.
+     *
+     * @param step A valid step.
+     */
+    public static Step of(String step) {
+        return POOL.intern(new Step(step));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidStep(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
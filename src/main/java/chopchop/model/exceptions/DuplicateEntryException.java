@@ -1,11 +1,39 @@
 package chopchop.model.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import chopchop.model.FoodEntry;
+
 /**
  * Signals that the operation will result in duplicate Ingredients (Persons are considered duplicates if they have
  * the same identity).
  */
 public class DuplicateEntryException extends RuntimeException {
+
+    private final List<FoodEntry> duplicates;
+
     public DuplicateEntryException() {
         super("Operation would result in duplicate food entry");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateEntryException} that reports every one of the given {@code duplicates}.
+     */
+    public DuplicateEntryException(List<? extends FoodEntry> duplicates) {
+        super("Operation would result in duplicate food entries: " + duplicates.stream()
+                .map(entry -> entry.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the entries that were found more than once, or an empty list if they were not recorded.
+     */
+    public List<FoodEntry> getDuplicates() {
+        return duplicates;
     }
 }
@@ -0,0 +1,69 @@
+package chopchop.model.ingredient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Ingredients ordered by expiry date, for answering date range queries without looking at every ingredient.
+ * A query costs O(log n) to find the start of the range plus O(k) for the k ingredients in it.
+ *
+ * The index does not enforce anything about the ingredients it holds; {@code IngredientBook} keeps it in
+ * step with its list of ingredients.
+ */
+class ExpiryIndex {
+
+    private final NavigableMap<LocalDate, Set<Ingredient>> ingredientsByExpiry = new TreeMap<>();
+
+    void add(Ingredient ingredient) {
+        ingredientsByExpiry.computeIfAbsent(expiryOf(ingredient), unused -> new LinkedHashSet<>()).add(ingredient);
+    }
+
+    void remove(Ingredient ingredient) {
+        LocalDate expiry = expiryOf(ingredient);
+        Set<Ingredient> ingredients = ingredientsByExpiry.get(expiry);
+        if (ingredients == null) {
+            return;
+        }
+        ingredients.remove(ingredient);
+        if (ingredients.isEmpty()) {
+            ingredientsByExpiry.remove(expiry);
+        }
+    }
+
+    /**
+     * Discards the current contents and indexes {@code ingredients} instead.
+     */
+    void rebuild(Iterable<Ingredient> ingredients) {
+        ingredientsByExpiry.clear();
+        ingredients.forEach(this::add);
+    }
+
+    /**
+     * Returns the ingredients that expire strictly before {@code date}, earliest first.
+     */
+    List<Ingredient> getExpiringBefore(LocalDate date) {
+        return flatten(ingredientsByExpiry.headMap(date, false));
+    }
+
+    /**
+     * Returns the ingredients that expire on or after {@code from} and on or before {@code to}, earliest first.
+     */
+    List<Ingredient> getExpiringBetween(LocalDate from, LocalDate to) {
+        return flatten(ingredientsByExpiry.subMap(from, true, to, true));
+    }
+
+    private static List<Ingredient> flatten(NavigableMap<LocalDate, Set<Ingredient>> range) {
+        List<Ingredient> ingredients = new ArrayList<>();
+        range.values().forEach(ingredients::addAll);
+        return ingredients;
+    }
+
+    private static LocalDate expiryOf(Ingredient ingredient) {
+        return ingredient.getExpiryDate().getDate();
+    }
+}
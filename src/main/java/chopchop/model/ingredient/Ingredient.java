@@ -9,8 +9,9 @@ import chopchop.model.attributes.Name;
 
 /**
  * Represents an Ingredient in the recipe manager.
+ * Guarantees: immutable; the hash code is computed once, on construction.
  */
-public class Ingredient extends FoodEntry {
+public final class Ingredient extends FoodEntry {
 
     // Identity fields
     private final ExpiryDate expiryDate;
@@ -18,6 +19,8 @@ public class Ingredient extends FoodEntry {
     // Data fields
     private final Quantity quantity;
 
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      * Guarantees: details are present and not null, field values are validated, immutable.
@@ -27,6 +30,7 @@ public class Ingredient extends FoodEntry {
         requireAllNonNull(quantity, expiryDate);
         this.quantity = quantity;
         this.expiryDate = expiryDate;
+        this.hash = Objects.hash(name, expiryDate);
     }
 
     public Quantity getQuantity() {
@@ -54,13 +58,17 @@ public class Ingredient extends FoodEntry {
 
         Ingredient otherInd = (Ingredient) other;
 
-        return otherInd.getName().equals(getName())
+        return otherInd.hash == hash
+            && otherInd.getName().equals(getName())
             && otherInd.getExpiryDate().equals(getExpiryDate());
     }
 
+    /**
+     * Hashes only the identity fields, so that it stays consistent with {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(super.name, quantity, expiryDate);
+        return hash;
     }
 
     @Override
@@ -1,12 +1,19 @@
 package chopchop.model.ingredient;
 
+import static chopchop.commons.util.AppUtil.checkArgument;
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
+import java.time.LocalDate;
 import java.util.List;
 import javafx.collections.ObservableList;
 
 public class IngredientBook implements ReadOnlyIngredientBook {
 
     private final UniqueIngredientList entries;
+    private final ExpiryIndex expiryIndex = new ExpiryIndex();
+
+    /** Number of changes made so far; see {@link #getVersion()}. */
+    private long version;
 
     public IngredientBook() {
         entries = new UniqueIngredientList();
@@ -28,6 +35,8 @@ public class IngredientBook implements ReadOnlyIngredientBook {
      */
     public void setFoodEntries(List<Ingredient> entries) {
         this.entries.setIngredientEntries(entries);
+        expiryIndex.rebuild(this.entries);
+        version++;
     }
 
     /**
@@ -36,6 +45,14 @@ public class IngredientBook implements ReadOnlyIngredientBook {
     public void resetData(ReadOnlyIngredientBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof IngredientBook) {
+            // already known to be unique, so the copy can skip the duplicate check
+            entries.setIngredients(((IngredientBook) newData).entries);
+            expiryIndex.rebuild(entries);
+            version++;
+            return;
+        }
+
         setFoodEntries(newData.getFoodEntryList());
     }
 
@@ -53,6 +70,18 @@ public class IngredientBook implements ReadOnlyIngredientBook {
      */
     public void addIngredient(Ingredient r) {
         entries.add(r);
+        expiryIndex.add(r);
+        version++;
+    }
+
+    /**
+     * Inserts an ingredient at {@code index} of the ingredient book.
+     * The ingredient must not already exist in the ingredient book.
+     */
+    public void addIngredient(int index, Ingredient r) {
+        entries.add(index, r);
+        expiryIndex.add(r);
+        version++;
     }
 
 
@@ -65,6 +94,9 @@ public class IngredientBook implements ReadOnlyIngredientBook {
         requireNonNull(editedIngredient);
 
         entries.setIngredient(target, editedIngredient);
+        expiryIndex.remove(target);
+        expiryIndex.add(editedIngredient);
+        version++;
     }
 
     /**
@@ -73,10 +105,37 @@ public class IngredientBook implements ReadOnlyIngredientBook {
      */
     public void removeIngredient(Ingredient key) {
         entries.remove(key);
+        expiryIndex.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the ingredients that expire strictly before {@code date}, earliest first.
+     */
+    public List<Ingredient> getIngredientsExpiringBefore(LocalDate date) {
+        requireNonNull(date);
+        return expiryIndex.getExpiringBefore(date);
+    }
+
+    /**
+     * Returns the ingredients that expire between {@code from} and {@code to} inclusive, earliest first.
+     */
+    public List<Ingredient> getIngredientsExpiringBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), "Start of the expiry range cannot be after its end");
+        return expiryIndex.getExpiringBetween(from, to);
     }
 
     //// util methods
 
+    /**
+     * Returns a number that changes every time this ingredient book is changed, and only then.
+     * Two equal versions of the same ingredient book mean that it has not been changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return entries.asUnmodifiableObservableList().size() + " persons";
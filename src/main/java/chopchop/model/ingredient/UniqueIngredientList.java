@@ -1,24 +1,45 @@
 package chopchop.model.ingredient;
 
+import static chopchop.commons.util.CollectionUtil.findDuplicates;
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+/**
+ * A list of ingredients that enforces uniqueness between its elements and does not allow nulls.
+ * Two ingredients are the same if they have the same name and expiry date, as per {@code Ingredient#equals(Object)}.
+ *
+ * The observable list is what the UI sees; alongside it, a hash index maps every ingredient to its position
+ * in that list, so that identity lookups do not have to scan the list. Every mutation goes through this class
+ * and updates both structures together.
+ */
 public class UniqueIngredientList implements Iterable<Ingredient> {
 
     private final ObservableList<Ingredient> internalList = FXCollections.observableArrayList();
     private final ObservableList<Ingredient> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Ingredient, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Ingredient as the given argument.
      */
     public boolean contains(Ingredient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the equivalent Ingredient in the list, or -1 if there is none.
+     */
+    public int indexOf(Ingredient toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(toFind);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -30,9 +51,26 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
         if (contains(toAdd)) {
             throw new chopchop.model.ingredient.exceptions.DuplicateIngredientException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a Ingredient at {@code index} of the list, moving the Ingredients from there on up by one.
+     * The Ingredient must not already exist in the list.
+     */
+    public void add(int index, Ingredient toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new chopchop.model.ingredient.exceptions.DuplicateIngredientException();
+        }
+
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Replaces the Ingredient {@code target} in the list with {@code editedIngredient}.
      * {@code target} must exist in the list.
@@ -42,7 +80,7 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
     public void setIngredient(Ingredient target, Ingredient editedIngredient) {
         requireAllNonNull(target, editedIngredient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new chopchop.model.ingredient.exceptions.IngredientNotFoundException();
         }
@@ -51,6 +89,9 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
             throw new chopchop.model.ingredient.exceptions.DuplicateIngredientException();
         }
 
+        // remove first: if both have the same identity, the key must be replaced by the edited one
+        positions.remove(target);
+        positions.put(editedIngredient, index);
         internalList.set(index, editedIngredient);
     }
 
@@ -60,26 +101,46 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
      */
     public void remove(Ingredient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new chopchop.model.ingredient.exceptions.IngredientNotFoundException();
         }
+
+        internalList.remove((int) index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * No uniqueness check is needed, as {@code replacement} already enforces it.
+     */
     public void setIngredients(UniqueIngredientList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code Ingredients}.
-     * {@code Ingredients} must not contain duplicate Ingredients.
+     * Replaces the contents of this list with {@code Ingredients}, published as a single change.
+     * {@code Ingredients} must not contain duplicate Ingredients; uniqueness is checked in linear time.
+     *
+     * @throws chopchop.model.ingredient.exceptions.DuplicateIngredientException listing every duplicate
+     *     if {@code Ingredients} is not unique.
      */
     public void setIngredientEntries(List<Ingredient> ingredients) {
         requireAllNonNull(ingredients);
-        if (!ingredientsAreUnique(ingredients)) {
-            throw new chopchop.model.ingredient.exceptions.DuplicateIngredientException();
+        List<Ingredient> duplicates = findDuplicates(ingredients);
+        if (!duplicates.isEmpty()) {
+            throw new chopchop.model.ingredient.exceptions.DuplicateIngredientException(duplicates);
         }
 
+        rebuildPositions(ingredients);
         internalList.setAll(ingredients);
     }
 
@@ -92,7 +153,7 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
 
     @Override
     public Iterator<Ingredient> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -108,16 +169,12 @@ public class UniqueIngredientList implements Iterable<Ingredient> {
     }
 
     /**
-     * Returns true if {@code Ingredients} contains only unique Ingredients.
+     * Recomputes the position of every ingredient as it will appear in {@code ingredients}.
      */
-    private boolean ingredientsAreUnique(List<Ingredient> ingredients) {
-        for (int i = 0; i < ingredients.size() - 1; i++) {
-            for (int j = i + 1; j < ingredients.size(); j++) {
-                if (ingredients.get(i).equals(ingredients.get(j))) {
-                    return false;
-                }
-            }
+    private void rebuildPositions(List<Ingredient> ingredients) {
+        positions.clear();
+        for (int i = 0; i < ingredients.size(); i++) {
+            positions.put(ingredients.get(i), i);
         }
-        return true;
     }
 }
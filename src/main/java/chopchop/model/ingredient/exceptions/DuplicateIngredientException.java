@@ -1,11 +1,39 @@
 package chopchop.model.ingredient.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import chopchop.model.ingredient.Ingredient;
+
 /**
  * Signals that the operation will result in duplicate Ingredients (Persons are considered duplicates if they have
  * the same identity).
  */
 public class DuplicateIngredientException extends RuntimeException {
+
+    private final List<Ingredient> duplicates;
+
     public DuplicateIngredientException() {
         super("Operation would result in duplicate ingredients");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateIngredientException} that reports every one of the given {@code duplicates}.
+     */
+    public DuplicateIngredientException(List<? extends Ingredient> duplicates) {
+        super("Operation would result in duplicate ingredients: " + duplicates.stream()
+                .map(entry -> entry.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the entries that were found more than once, or an empty list if they were not recorded.
+     */
+    public List<Ingredient> getDuplicates() {
+        return duplicates;
     }
 }
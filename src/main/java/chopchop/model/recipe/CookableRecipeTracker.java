@@ -0,0 +1,168 @@
+package chopchop.model.recipe;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import chopchop.model.attributes.Name;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import javafx.collections.ListChangeListener;
+
+/**
+ * Keeps track of how many of each recipe's ingredients are missing from the ingredient book.
+ *
+ * An ingredient of a recipe is missing when the ingredient book does not hold at least the recipe's
+ * {@code Quantity} of it, summed over every lot with that name (names are compared as in
+ * {@link RecipeBook#getRecipesWithIngredient(Name)}). Expiry dates are not taken into account. Quantities
+ * are compared with a relative tolerance of {@link #QUANTITY_TOLERANCE}, so that lots adding up to exactly the
+ * recipe's quantity are not reported missing because of rounding.
+ *
+ * The tracker listens to both books' lists. A change to the recipes only (re)computes the recipes that were
+ * added, and a change to the ingredients only recomputes the recipes that use one of the changed names,
+ * so neither ever walks the whole recipe book.
+ */
+public class CookableRecipeTracker {
+
+    /** The fraction of a recipe's quantity that the stock may fall short of because of rounding. */
+    static final double QUANTITY_TOLERANCE = 1e-9;
+
+    private final RecipeBook recipeBook;
+
+    /** The lots held in the ingredient book, by normalized ingredient name. */
+    private final Map<String, Stock> stock = new HashMap<>();
+    private final Map<Recipe, Integer> missingCounts = new HashMap<>();
+    private final Map<Integer, Set<Recipe>> recipesByMissingCount = new HashMap<>();
+
+    /**
+     * Starts tracking the recipes in {@code recipeBook} against the ingredients in {@code ingredientBook}.
+     */
+    public CookableRecipeTracker(RecipeBook recipeBook, IngredientBook ingredientBook) {
+        requireAllNonNull(recipeBook, ingredientBook);
+        this.recipeBook = recipeBook;
+
+        ingredientBook.getFoodEntryList().forEach(ingredient -> stockOf(ingredient.getName()).add(ingredient));
+        recipeBook.getFoodEntryList().forEach(this::update);
+
+        ingredientBook.getFoodEntryList().addListener(this::onIngredientsChanged);
+        recipeBook.getFoodEntryList().addListener(this::onRecipesChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the recipes that are missing exactly {@code missingCount} ingredients.
+     * In particular, {@code getRecipesMissing(0)} are the recipes that can be cooked right now.
+     */
+    public Set<Recipe> getRecipesMissing(int missingCount) {
+        Set<Recipe> recipes = recipesByMissingCount.get(missingCount);
+        return recipes == null ? Collections.emptySet() : Collections.unmodifiableSet(recipes);
+    }
+
+    /**
+     * Returns how many ingredients {@code recipe} is missing, or -1 if it is not in the recipe book.
+     */
+    public int getMissingCount(Recipe recipe) {
+        return missingCounts.getOrDefault(recipe, -1);
+    }
+
+    private void onIngredientsChanged(ListChangeListener.Change<? extends Ingredient> change) {
+        Map<String, Name> touched = new HashMap<>();
+        while (change.next()) {
+            for (Ingredient removed : change.getRemoved()) {
+                String key = IngredientRecipeIndex.normalize(removed.getName());
+                Stock lots = stock.get(key);
+                if (lots != null && lots.remove(removed)) {
+                    stock.remove(key);
+                }
+                touched.put(key, removed.getName());
+            }
+            for (Ingredient added : change.getAddedSubList()) {
+                stockOf(added.getName()).add(added);
+                touched.put(IngredientRecipeIndex.normalize(added.getName()), added.getName());
+            }
+        }
+
+        Set<Recipe> affected = new HashSet<>();
+        touched.values().forEach(name -> affected.addAll(recipeBook.getRecipesWithIngredient(name)));
+        affected.forEach(this::update);
+    }
+
+    private void onRecipesChanged(ListChangeListener.Change<? extends Recipe> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::forget);
+            change.getAddedSubList().forEach(this::update);
+        }
+    }
+
+    /**
+     * Recomputes the number of missing ingredients of {@code recipe} and files it under the new count.
+     */
+    private void update(Recipe recipe) {
+        int missing = 0;
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            Stock lots = stock.get(IngredientRecipeIndex.normalize(ingredient.getName()));
+            if (lots == null || !lots.covers(ingredient.getQuantity().value)) {
+                missing++;
+            }
+        }
+
+        forget(recipe);
+        missingCounts.put(recipe, missing);
+        recipesByMissingCount.computeIfAbsent(missing, unused -> new LinkedHashSet<>()).add(recipe);
+    }
+
+    private void forget(Recipe recipe) {
+        Integer previous = missingCounts.remove(recipe);
+        if (previous == null) {
+            return;
+        }
+        Set<Recipe> bucket = recipesByMissingCount.get(previous);
+        bucket.remove(recipe);
+        if (bucket.isEmpty()) {
+            recipesByMissingCount.remove(previous);
+        }
+    }
+
+    private Stock stockOf(Name name) {
+        return stock.computeIfAbsent(IngredientRecipeIndex.normalize(name), unused -> new Stock());
+    }
+
+    /**
+     * The lots of one ingredient held in the ingredient book.
+     */
+    private static class Stock {
+        private final List<Ingredient> lots = new ArrayList<>();
+        private double quantity;
+
+        void add(Ingredient ingredient) {
+            lots.add(ingredient);
+            quantity += ingredient.getQuantity().value;
+        }
+
+        /**
+         * Returns true if no lots are left afterwards.
+         */
+        boolean remove(Ingredient ingredient) {
+            lots.remove(ingredient);
+            // summed again rather than subtracted, so that rounding errors do not build up over many changes
+            quantity = 0;
+            for (Ingredient lot : lots) {
+                quantity += lot.getQuantity().value;
+            }
+            return lots.isEmpty();
+        }
+
+        /**
+         * Returns true if the lots add up to at least {@code required}, give or take rounding.
+         */
+        boolean covers(double required) {
+            return quantity >= required * (1 - QUANTITY_TOLERANCE);
+        }
+    }
+}
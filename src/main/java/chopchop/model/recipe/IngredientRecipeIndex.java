@@ -0,0 +1,77 @@
+package chopchop.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import chopchop.model.attributes.Name;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * An inverted index from ingredient names to the recipes that use them.
+ * Names are normalized (case, surrounding and repeated whitespace) before being used as keys, so that
+ * "Garlic" and " garlic " find the same recipes.
+ *
+ * The index does not enforce anything about the recipes it holds; {@code RecipeBook} keeps it in step
+ * with its list of recipes.
+ */
+class IngredientRecipeIndex {
+
+    private final Map<String, Set<Recipe>> recipesByIngredient = new HashMap<>();
+
+    /**
+     * Returns the key under which recipes using an ingredient called {@code name} are stored.
+     */
+    static String normalize(Name name) {
+        requireNonNull(name);
+        return name.fullName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Records every ingredient of {@code recipe}.
+     */
+    void add(Recipe recipe) {
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            recipesByIngredient.computeIfAbsent(normalize(ingredient.getName()), unused -> new HashSet<>())
+                    .add(recipe);
+        }
+    }
+
+    /**
+     * Forgets every ingredient of {@code recipe}, dropping names that no longer have any recipes.
+     */
+    void remove(Recipe recipe) {
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            String key = normalize(ingredient.getName());
+            Set<Recipe> recipes = recipesByIngredient.get(key);
+            if (recipes == null) {
+                continue;
+            }
+            recipes.remove(recipe);
+            if (recipes.isEmpty()) {
+                recipesByIngredient.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Discards the current contents and indexes {@code recipes} instead.
+     */
+    void rebuild(Iterable<Recipe> recipes) {
+        recipesByIngredient.clear();
+        recipes.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the recipes that use an ingredient called {@code ingredientName}.
+     */
+    Set<Recipe> getRecipesWithIngredient(Name ingredientName) {
+        Set<Recipe> recipes = recipesByIngredient.get(normalize(ingredientName));
+        return recipes == null ? Collections.emptySet() : Collections.unmodifiableSet(recipes);
+    }
+}
@@ -4,9 +4,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import chopchop.model.attributes.Name;
 import chopchop.model.attributes.Step;
@@ -15,20 +15,48 @@ import chopchop.model.FoodEntry;
 
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 
-public class Recipe extends FoodEntry {
+/**
+ * Represents a Recipe in the recipe manager.
+ * Guarantees: immutable; the hash code depends on the name only, so that a recipe whose body is loaded lazily
+ * (see {@link #withLazyBody(Name, Supplier)}) can be hashed without loading it.
+ */
+public final class Recipe extends FoodEntry {
 
-    // Data fields
-    private final Set<Ingredient> ingredients = new HashSet<>();
-    private final List<Step> steps = new ArrayList<>();
+    // Data fields; null if the body is loaded lazily
+    private final Set<Ingredient> ingredients;
+    private final List<Step> steps;
+
+    /** Loads this recipe's body when it is loaded lazily, or null. */
+    private final Supplier<Recipe> body;
 
     /**
      * Every field must be present and not null.
+     * The given collections are copied, so later changes to them do not affect this recipe.
      */
     public Recipe(Name name, Set<Ingredient> ingredients, List<Step> steps) {
         super(name);
         requireAllNonNull(name, ingredients, steps);
-        this.ingredients.addAll(ingredients);
-        this.steps.addAll(steps);
+        this.ingredients = Collections.unmodifiableSet(new HashSet<>(ingredients));
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.body = null;
+    }
+
+    private Recipe(Name name, Supplier<Recipe> body) {
+        super(name);
+        requireAllNonNull(name, body);
+        this.ingredients = null;
+        this.steps = null;
+        this.body = body;
+    }
+
+    /**
+     * Returns a recipe called {@code name} whose ingredients and steps are those of the recipe returned by
+     * {@code body}, which is asked for them every time they are used. This lets a large recipe book keep only
+     * its names in memory, with {@code body} decoding and caching the rest of each recipe on demand.
+     * {@code body} must always return an equal recipe called {@code name}.
+     */
+    public static Recipe withLazyBody(Name name, Supplier<Recipe> body) {
+        return new Recipe(name, body);
     }
 
     /**
@@ -36,7 +64,7 @@ public class Recipe extends FoodEntry {
      * if modification is attempted.
      */
     public Set<Ingredient> getIngredients() {
-        return Collections.unmodifiableSet(ingredients);
+        return body == null ? ingredients : body.get().getIngredients();
     }
 
     /**
@@ -44,7 +72,7 @@ public class Recipe extends FoodEntry {
      * if modification is attempted.
      */
     public List<Step> getSteps() {
-        return Collections.unmodifiableList(steps);
+        return body == null ? steps : body.get().getSteps();
     }
 
     /**
@@ -62,6 +90,7 @@ public class Recipe extends FoodEntry {
         }
 
         Recipe otherRecipe = (Recipe) other;
+        // compare names first, so that only recipes with the same name have their bodies loaded
         return otherRecipe.getName().equals(getName())
                 && otherRecipe.getIngredients().equals(getIngredients())
                 && otherRecipe.getSteps().equals(getSteps());
@@ -69,8 +98,7 @@ public class Recipe extends FoodEntry {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, ingredients, steps);
+        return getName().hashCode();
     }
 
     @Override
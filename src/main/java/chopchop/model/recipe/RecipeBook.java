@@ -1,12 +1,26 @@
 package chopchop.model.recipe;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import chopchop.model.attributes.Name;
 import javafx.collections.ObservableList;
 
 public class RecipeBook implements ReadOnlyRecipeBook {
 
     private final UniqueRecipeList entries;
+    private final IngredientRecipeIndex ingredientIndex = new IngredientRecipeIndex();
+    private final RecipeSearchIndex searchIndex = new RecipeSearchIndex();
+
+    /**
+     * Whether the indexes are built. They need every recipe's body, so they are only built by the first lookup
+     * after the recipes are replaced, and a recipe book that was just loaded does not load any bodies.
+     */
+    private boolean isIndexed;
+
+    /** Number of changes made so far; see {@link #getVersion()}. */
+    private long version;
 
     public RecipeBook() {
         entries = new UniqueRecipeList();
@@ -28,6 +42,8 @@ public class RecipeBook implements ReadOnlyRecipeBook {
      */
     public void setFoodEntries(List<Recipe> entries) {
         this.entries.setRecipeEntries(entries);
+        dropIndexes();
+        version++;
     }
 
     /**
@@ -36,6 +52,14 @@ public class RecipeBook implements ReadOnlyRecipeBook {
     public void resetData(ReadOnlyRecipeBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof RecipeBook) {
+            // already known to be unique, so the copy can skip the duplicate check
+            entries.setRecipes(((RecipeBook) newData).entries);
+            dropIndexes();
+            version++;
+            return;
+        }
+
         setFoodEntries(newData.getFoodEntryList());
     }
 
@@ -53,6 +77,18 @@ public class RecipeBook implements ReadOnlyRecipeBook {
      */
     public void addRecipe(Recipe r) {
         entries.add(r);
+        index(r);
+        version++;
+    }
+
+    /**
+     * Inserts a recipe at {@code index} of the recipe book.
+     * The recipe must not already exist in the recipe book.
+     */
+    public void addRecipe(int index, Recipe r) {
+        entries.add(index, r);
+        index(r);
+        version++;
     }
 
 
@@ -65,6 +101,9 @@ public class RecipeBook implements ReadOnlyRecipeBook {
         requireNonNull(editedRecipe);
 
         entries.setRecipe(target, editedRecipe);
+        unindex(target);
+        index(editedRecipe);
+        version++;
     }
 
     /**
@@ -73,10 +112,71 @@ public class RecipeBook implements ReadOnlyRecipeBook {
      */
     public void removeRecipe(Recipe key) {
         entries.remove(key);
+        unindex(key);
+        version++;
+    }
+
+    /**
+     * Returns the recipes that use an ingredient called {@code ingredientName}, ignoring case and extra whitespace.
+     * The lookup does not scan the recipe book, so it costs time proportional to the number of matches,
+     * except for the first lookup after the recipes are replaced, which builds the index.
+     */
+    public Set<Recipe> getRecipesWithIngredient(Name ingredientName) {
+        requireNonNull(ingredientName);
+        buildIndexes();
+        return ingredientIndex.getRecipesWithIngredient(ingredientName);
+    }
+
+    /**
+     * Returns the recipes whose name, ingredient names or steps contain any of {@code keywords}, ignoring
+     * case, with the recipes matching the most keywords first.
+     * The search does not scan the recipe book, so it costs time proportional to the number of matches,
+     * except for the first search after the recipes are replaced, which builds the index.
+     */
+    public List<Recipe> findRecipes(List<String> keywords) {
+        requireNonNull(keywords);
+        buildIndexes();
+        return searchIndex.search(keywords);
+    }
+
+    private void buildIndexes() {
+        if (!isIndexed) {
+            ingredientIndex.rebuild(entries);
+            searchIndex.rebuild(entries);
+            isIndexed = true;
+        }
+    }
+
+    private void dropIndexes() {
+        ingredientIndex.rebuild(Collections.emptyList());
+        searchIndex.rebuild(Collections.emptyList());
+        isIndexed = false;
+    }
+
+    private void index(Recipe recipe) {
+        if (isIndexed) {
+            ingredientIndex.add(recipe);
+            searchIndex.add(recipe);
+        }
+    }
+
+    private void unindex(Recipe recipe) {
+        if (isIndexed) {
+            ingredientIndex.remove(recipe);
+            searchIndex.remove(recipe);
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns a number that changes every time this recipe book is changed, and only then.
+     * Two equal versions of the same recipe book mean that it has not been changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return entries.asUnmodifiableObservableList().size() + " persons";
@@ -0,0 +1,166 @@
+package chopchop.model.recipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * A full-text inverted index over the words of each recipe's name, ingredient names and steps.
+ *
+ * Text is split into words at every character that is not a letter or digit, and words are compared
+ * ignoring case, so "Stir-fry" is indexed as "stir" and "fry". A search looks up the posting list of each
+ * keyword instead of testing every recipe, so it costs time proportional to the number of matches.
+ *
+ * The index does not enforce anything about the recipes it holds; {@code RecipeBook} keeps it in step
+ * with its list of recipes.
+ */
+class RecipeSearchIndex {
+
+    /** For every word, the recipes that contain it and how many times they do. */
+    private final Map<String, Map<Recipe, Integer>> postings = new HashMap<>();
+
+    /**
+     * Splits {@code text} into lower case words.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Records every word of {@code recipe}.
+     */
+    void add(Recipe recipe) {
+        wordCounts(recipe).forEach((word, count) ->
+                postings.computeIfAbsent(word, unused -> new HashMap<>()).put(recipe, count));
+    }
+
+    /**
+     * Forgets every word of {@code recipe}, dropping words that no longer appear in any recipe.
+     */
+    void remove(Recipe recipe) {
+        for (String word : wordCounts(recipe).keySet()) {
+            Map<Recipe, Integer> recipes = postings.get(word);
+            if (recipes == null) {
+                continue;
+            }
+            recipes.remove(recipe);
+            if (recipes.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Discards the current contents and indexes {@code recipes} instead.
+     */
+    void rebuild(Iterable<Recipe> recipes) {
+        postings.clear();
+        recipes.forEach(this::add);
+    }
+
+    /**
+     * Returns the recipes that match any of {@code keywords}, best matches first.
+     *
+     * A keyword made up of several words (e.g. "stir-fry") matches the recipes that contain all of them.
+     * Recipes matching more keywords come first, then those in which the matched words occur more often;
+     * remaining ties are broken by name.
+     */
+    List<Recipe> search(List<String> keywords) {
+        Map<Recipe, Score> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            matchesOf(tokenize(keyword)).forEach((recipe, occurrences) ->
+                    scores.computeIfAbsent(recipe, unused -> new Score()).add(occurrences));
+        }
+
+        List<Recipe> results = new ArrayList<>(scores.keySet());
+        results.sort(Comparator.<Recipe>comparingInt(recipe -> scores.get(recipe).keywords)
+                .thenComparingInt(recipe -> scores.get(recipe).occurrences)
+                .reversed()
+                .thenComparing(recipe -> recipe.getName().fullName));
+        return results;
+    }
+
+    /**
+     * Returns the recipes that contain every one of {@code words}, with the total number of times they do.
+     */
+    private Map<Recipe, Integer> matchesOf(List<String> words) {
+        if (words.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // walk the shortest posting list and probe the others
+        List<Map<Recipe, Integer>> lists = new ArrayList<>();
+        for (String word : words) {
+            Map<Recipe, Integer> recipes = postings.get(word);
+            if (recipes == null) {
+                return Collections.emptyMap();
+            }
+            lists.add(recipes);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Map<Recipe, Integer> matches = new HashMap<>();
+        for (Recipe candidate : lists.get(0).keySet()) {
+            int occurrences = 0;
+            for (Map<Recipe, Integer> recipes : lists) {
+                Integer count = recipes.get(candidate);
+                if (count == null) {
+                    occurrences = 0;
+                    break;
+                }
+                occurrences += count;
+            }
+            if (occurrences > 0) {
+                matches.put(candidate, occurrences);
+            }
+        }
+        return matches;
+    }
+
+    private static Map<String, Integer> wordCounts(Recipe recipe) {
+        Map<String, Integer> counts = new HashMap<>();
+        countWords(recipe.getName().fullName, counts);
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            countWords(ingredient.getName().fullName, counts);
+        }
+        for (Step step : recipe.getSteps()) {
+            countWords(step.step, counts);
+        }
+        return counts;
+    }
+
+    private static void countWords(String text, Map<String, Integer> counts) {
+        tokenize(text).forEach(word -> counts.merge(word, 1, Integer::sum));
+    }
+
+    /**
+     * How well a recipe matches a search.
+     */
+    private static class Score {
+        private int keywords;
+        private int occurrences;
+
+        void add(int occurrences) {
+            this.keywords++;
+            this.occurrences += occurrences;
+        }
+    }
+}
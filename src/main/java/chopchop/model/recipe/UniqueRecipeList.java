@@ -9,6 +9,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
+import static chopchop.commons.util.CollectionUtil.findDuplicates;
 import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
 
 /**
@@ -47,6 +48,18 @@ public class UniqueRecipeList implements Iterable<Recipe> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a recipe at {@code index} of the list, moving the recipes from there on up by one.
+     * The recipe must not already exist in the list.
+     */
+    public void add(int index, Recipe toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateRecipeException();
+        }
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the recipe {@code target} in the list with {@code editedRecipe}.
      * {@code target} must exist in the list.
@@ -84,13 +97,16 @@ public class UniqueRecipeList implements Iterable<Recipe> {
     }
 
     /**
-     * Replaces the contents of this list with {@code recipes}.
-     * {@code recipes} must not contain duplicate recipes.
+     * Replaces the contents of this list with {@code recipes}, published as a single change.
+     * {@code recipes} must not contain duplicate recipes; uniqueness is checked in linear time.
+     *
+     * @throws DuplicateRecipeException listing every duplicate if {@code recipes} is not unique.
      */
     public void setRecipeEntries(List<Recipe> recipes) {
         requireAllNonNull(recipes);
-        if (!recipesAreUnique(recipes)) {
-            throw new DuplicateRecipeException();
+        List<Recipe> duplicates = findDuplicates(recipes);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateRecipeException(duplicates);
         }
 
         internalList.setAll(recipes);
@@ -119,18 +135,4 @@ public class UniqueRecipeList implements Iterable<Recipe> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean recipesAreUnique(List<Recipe> recipes) {
-        for (int i = 0; i < recipes.size() - 1; i++) {
-            for (int j = i + 1; j < recipes.size(); j++) {
-                if (recipes.get(i).equals(recipes.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
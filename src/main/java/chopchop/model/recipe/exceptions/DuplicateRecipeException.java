@@ -1,11 +1,39 @@
 package chopchop.model.recipe.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import chopchop.model.recipe.Recipe;
+
 /**
  * Signals that the operation will result in duplicate Recipes (Recipes are considered duplicates if they have the same
  * identity and data).
  */
 public class DuplicateRecipeException extends RuntimeException {
+
+    private final List<Recipe> duplicates;
+
     public DuplicateRecipeException() {
         super("Operation would result in duplicate recipes");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateRecipeException} that reports every one of the given {@code duplicates}.
+     */
+    public DuplicateRecipeException(List<? extends Recipe> duplicates) {
+        super("Operation would result in duplicate recipes: " + duplicates.stream()
+                .map(entry -> entry.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the entries that were found more than once, or an empty list if they were not recorded.
+     */
+    public List<Recipe> getDuplicates() {
+        return duplicates;
     }
 }
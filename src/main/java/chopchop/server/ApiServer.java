@@ -0,0 +1,482 @@
+package chopchop.server;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import chopchop.commons.core.LogsCenter;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.JsonUtil;
+import chopchop.logic.Logic;
+import chopchop.logic.LogicManager;
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.commands.AddRecipeCommand;
+import chopchop.logic.commands.Command;
+import chopchop.logic.commands.CommandResult;
+import chopchop.logic.commands.DeleteIngredientCommand;
+import chopchop.logic.commands.DeleteRecipeCommand;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.logic.parser.ParserUtil;
+import chopchop.model.FoodEntry;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.NameContainsKeywordsPredicate;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.storage.JournalledIngredientBookStorage;
+import chopchop.storage.JournalledRecipeBookStorage;
+import chopchop.storage.JsonAdaptedIngredient;
+import chopchop.storage.JsonAdaptedRecipe;
+import chopchop.storage.JsonIngredientBookStorage;
+import chopchop.storage.JsonRecipeBookStorage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import javafx.collections.ListChangeListener;
+
+/**
+ * A local HTTP server through which other programs on the same machine can list, find, add and delete the
+ * ingredients and recipes, with JSON requests and responses.
+ *
+ * <ul>
+ * <li>{@code GET /ingredients} lists the ingredients, or with {@code ?find=KEYWORDS} only those whose names
+ * contain any of the keywords.</li>
+ * <li>{@code POST /ingredients} adds the ingredient in the request body, in the same form as it is listed.</li>
+ * <li>{@code DELETE /ingredients/NAME} deletes every ingredient named {@code NAME}.</li>
+ * </ul>
+ * {@code /recipes} works the same way for recipes. A request that fails is answered with its error, with status 400
+ * if the request itself is invalid, 409 if it could not be carried out, such as adding an entry that exists, or 500
+ * if carrying it out failed unexpectedly.
+ *
+ * Reads are served concurrently from an immutable snapshot of each book, so they never touch the model. Writes are
+ * executed through {@link Logic} one at a time by a single writer, which takes a new snapshot of a book as soon as
+ * it changes, so a client always reads its own writes. Anything else that uses the same {@code Logic}, such as the GUI,
+ * must run on that writer too.
+ */
+public class ApiServer {
+
+    public static final String INGREDIENTS_PATH = "/ingredients";
+    public static final String RECIPES_PATH = "/recipes";
+    public static final String FIND_PARAMETER = "find";
+    public static final String MESSAGE_FIELD = "message";
+    public static final String ERROR_FIELD = "error";
+
+    public static final String MESSAGE_INVALID_BODY = "Invalid request body: %1$s";
+    public static final String MESSAGE_MISSING_BODY = "There is no entry in the request body";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed on %2$s";
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %1$s";
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the change to be made";
+    public static final String MESSAGE_INTERNAL_ERROR = "The change failed because of an internal error";
+
+    /** Enough for tens of clients reading at once, as reading a snapshot does not wait for anything. */
+    private static final int READER_THREADS = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final Executor writer;
+    // the writer if this server created it, so that it is shut down with the server; null otherwise
+    private final ExecutorService ownWriter;
+
+    private final ListChangeListener<Object> bookListener = change -> markSnapshotStale();
+    private final AtomicBoolean isSnapshotStale = new AtomicBoolean();
+    private volatile Snapshot<Ingredient> ingredientSnapshot;
+    private volatile Snapshot<Recipe> recipeSnapshot;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if {@code port} is
+     * 0, that executes writes on a writer thread of its own.
+     * {@code logic} must not be used by anything else while the server is running.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        this(logic, port, null);
+    }
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if {@code port} is
+     * 0, that executes writes with {@code writer}. {@code writer} must run one task at a time, in order, such as
+     * {@code Platform::runLater}. The server must be created on the thread that {@code writer} runs tasks on.
+     */
+    public ApiServer(Logic logic, int port, Executor writer) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+
+        ownWriter = writer == null ? Executors.newSingleThreadExecutor(daemonThreads("api-writer")) : null;
+        this.writer = writer == null ? ownWriter : writer;
+        readers = Executors.newFixedThreadPool(READER_THREADS, daemonThreads("api-reader"));
+
+        ingredientSnapshot = new Snapshot<>(logic.getIngredientBookVersion(),
+                logic.getIngredientBook().getFoodEntryList());
+        recipeSnapshot = new Snapshot<>(logic.getRecipeBookVersion(), logic.getRecipeBook().getFoodEntryList());
+        logic.getIngredientBook().getFoodEntryList().addListener(bookListener);
+        logic.getRecipeBook().getFoodEntryList().addListener(bookListener);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(readers);
+        server.createContext(INGREDIENTS_PATH, new IngredientHandler());
+        server.createContext(RECIPES_PATH, new RecipeHandler());
+    }
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, with a writer thread of its own, over the
+     * ingredient and recipe books saved as JSON in {@code ingredientBookFilePath} and {@code recipeBookFilePath}.
+     * A book that has not been saved yet starts empty. The books are journalled, so saving after each write only
+     * appends what the write changed.
+     * @throws DataConversionException if either book cannot be read.
+     */
+    public static ApiServer createForFiles(int port, Path ingredientBookFilePath, Path recipeBookFilePath)
+            throws IOException, DataConversionException {
+        JournalledIngredientBookStorage ingredientBookStorage =
+                new JournalledIngredientBookStorage(ingredientBookFilePath);
+        JournalledRecipeBookStorage recipeBookStorage = new JournalledRecipeBookStorage(recipeBookFilePath);
+        ModelManager model = new ModelManager(recipeBookStorage.readRecipeBook().orElseGet(RecipeBook::new),
+                ingredientBookStorage.readIngredientBook().orElseGet(IngredientBook::new), new UserPrefs());
+        return new ApiServer(new LogicManager(model, ingredientBookStorage, recipeBookStorage), port);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and stops the server's threads once the requests being handled are done.
+     */
+    public void stop() {
+        server.stop(0);
+        readers.shutdown();
+        if (ownWriter != null) {
+            ownWriter.shutdown();
+        }
+        logic.getIngredientBook().getFoodEntryList().removeListener(bookListener);
+        logic.getRecipeBook().getFoodEntryList().removeListener(bookListener);
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port that the server accepts requests on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Called on the writer whenever the books change, including changes that were not made by the server.
+     */
+    private void markSnapshotStale() {
+        // several changes in a row, such as those of one command, only take one new snapshot of each book
+        if (isSnapshotStale.compareAndSet(false, true)) {
+            writer.execute(this::refreshSnapshotIfStale);
+        }
+    }
+
+    private void refreshSnapshotIfStale() {
+        if (isSnapshotStale.compareAndSet(true, false)) {
+            // only the books that changed are copied again
+            long ingredientBookVersion = logic.getIngredientBookVersion();
+            if (ingredientBookVersion != ingredientSnapshot.version) {
+                ingredientSnapshot = new Snapshot<>(ingredientBookVersion,
+                        logic.getIngredientBook().getFoodEntryList());
+            }
+            long recipeBookVersion = logic.getRecipeBookVersion();
+            if (recipeBookVersion != recipeSnapshot.version) {
+                recipeSnapshot = new Snapshot<>(recipeBookVersion, logic.getRecipeBook().getFoodEntryList());
+            }
+        }
+    }
+
+    /**
+     * Executes {@code command} on the writer, and waits for its result. The snapshot is up to date with the command
+     * by the time this returns.
+     */
+    private CommandResult executeOnWriter(Command command) throws CommandException {
+        FutureTask<CommandResult> task = new FutureTask<>(() -> {
+            try {
+                return logic.execute(command);
+            } finally {
+                refreshSnapshotIfStale();
+            }
+        });
+        writer.execute(task);
+
+        try {
+            return task.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof CommandException) {
+                throw (CommandException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns the decoded value of the parameter {@code name} in the query of {@code uri}, or null if there is no
+     * such parameter.
+     */
+    private static String getQueryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String key = separatorIndex == -1 ? parameter : parameter.substring(0, separatorIndex);
+            if (URLDecoder.decode(key, UTF_8).equals(name)) {
+                return separatorIndex == -1 ? "" : URLDecoder.decode(parameter.substring(separatorIndex + 1), UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(body).getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of(ERROR_FIELD, message));
+    }
+
+    /**
+     * The entries of one book at one of its versions. Both the list and its entries are immutable, so a snapshot can
+     * be read by any number of threads at once.
+     */
+    private static class Snapshot<T> {
+        private final long version;
+        private final List<T> entries;
+
+        Snapshot(long version, List<? extends T> entries) {
+            this.version = version;
+            this.entries = List.copyOf(entries);
+        }
+    }
+
+    /**
+     * Handles the requests on one kind of food entry.
+     */
+    private abstract class EntryHandler<T extends FoodEntry, J> implements HttpHandler {
+        private final String path;
+        private final String field;
+        private final Class<J> jsonClass;
+
+        EntryHandler(String path, String field, Class<J> jsonClass) {
+            this.path = path;
+            this.field = field;
+            this.jsonClass = jsonClass;
+        }
+
+        abstract Snapshot<T> getSnapshot();
+
+        abstract J toJson(T entry);
+
+        abstract T toModelType(J json) throws IllegalValueException;
+
+        abstract Command createAddCommand(T entry);
+
+        abstract Command createDeleteCommand(Name name);
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                String method = exchange.getRequestMethod();
+                String subPath = exchange.getRequestURI().getPath().substring(path.length());
+
+                if (subPath.isEmpty() || subPath.equals("/")) {
+                    if (method.equals("GET")) {
+                        list(exchange);
+                    } else if (method.equals("POST")) {
+                        add(exchange);
+                    } else {
+                        sendMethodNotAllowed(exchange, "GET, POST");
+                    }
+                } else if (subPath.lastIndexOf('/') == 0) {
+                    if (method.equals("DELETE")) {
+                        delete(exchange, subPath.substring(1));
+                    } else {
+                        sendMethodNotAllowed(exchange, "DELETE");
+                    }
+                } else {
+                    sendError(exchange, HTTP_NOT_FOUND,
+                            String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+                }
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void list(HttpExchange exchange) throws IOException {
+            List<T> entries = getSnapshot().entries;
+
+            String keywords = getQueryParameter(exchange.getRequestURI(), FIND_PARAMETER);
+            if (keywords != null) {
+                NameContainsKeywordsPredicate<T> predicate =
+                        new NameContainsKeywordsPredicate<>(ParserUtil.parseKeywords(keywords));
+                entries = entries.stream().filter(predicate).collect(Collectors.toList());
+            }
+
+            sendJson(exchange, HTTP_OK, Map.of(field, entries.stream().map(this::toJson).collect(Collectors.toList())));
+        }
+
+        private void add(HttpExchange exchange) throws IOException {
+            String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+
+            T entry;
+            try {
+                J json = JsonUtil.fromJsonString(body, jsonClass);
+                if (json == null) {
+                    throw new IllegalValueException(MESSAGE_MISSING_BODY);
+                }
+                entry = toModelType(json);
+            } catch (IOException | IllegalValueException e) {
+                sendError(exchange, HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+                return;
+            }
+
+            sendCommandResult(exchange, HTTP_CREATED, createAddCommand(entry));
+        }
+
+        private void delete(HttpExchange exchange, String name) throws IOException {
+            if (!Name.isValidName(name)) {
+                sendError(exchange, HTTP_BAD_REQUEST, Name.MESSAGE_CONSTRAINTS);
+                return;
+            }
+
+            // not interned, as names from requests may not be in the books at all
+            sendCommandResult(exchange, HTTP_OK, createDeleteCommand(new Name(name)));
+        }
+
+        private void sendCommandResult(HttpExchange exchange, int status, Command command) throws IOException {
+            CommandResult commandResult;
+            try {
+                commandResult = executeOnWriter(command);
+            } catch (CommandException ce) {
+                sendError(exchange, HTTP_CONFLICT, ce.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                // answered rather than thrown, as the server would only drop the connection
+                logger.warning("Unexpected error while executing " + command + ": " + e);
+                sendError(exchange, HTTP_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+                return;
+            }
+            sendJson(exchange, status, Map.of(MESSAGE_FIELD, commandResult.getFeedbackToUser()));
+        }
+
+        private void sendMethodNotAllowed(HttpExchange exchange, String allowedMethods) throws IOException {
+            exchange.getResponseHeaders().set("Allow", allowedMethods);
+            sendError(exchange, HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                    exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+        }
+    }
+
+    private class IngredientHandler extends EntryHandler<Ingredient, JsonAdaptedIngredient> {
+        IngredientHandler() {
+            super(INGREDIENTS_PATH, JsonIngredientBookStorage.INGREDIENTS_FIELD, JsonAdaptedIngredient.class);
+        }
+
+        @Override
+        Snapshot<Ingredient> getSnapshot() {
+            return ingredientSnapshot;
+        }
+
+        @Override
+        JsonAdaptedIngredient toJson(Ingredient entry) {
+            return new JsonAdaptedIngredient(entry);
+        }
+
+        @Override
+        Ingredient toModelType(JsonAdaptedIngredient json) throws IllegalValueException {
+            return json.toModelType();
+        }
+
+        @Override
+        Command createAddCommand(Ingredient entry) {
+            return new AddIngredientCommand(entry);
+        }
+
+        @Override
+        Command createDeleteCommand(Name name) {
+            return new DeleteIngredientCommand(name);
+        }
+    }
+
+    private class RecipeHandler extends EntryHandler<Recipe, JsonAdaptedRecipe> {
+        RecipeHandler() {
+            super(RECIPES_PATH, JsonRecipeBookStorage.RECIPES_FIELD, JsonAdaptedRecipe.class);
+        }
+
+        @Override
+        Snapshot<Recipe> getSnapshot() {
+            return recipeSnapshot;
+        }
+
+        @Override
+        JsonAdaptedRecipe toJson(Recipe entry) {
+            return new JsonAdaptedRecipe(entry);
+        }
+
+        @Override
+        Recipe toModelType(JsonAdaptedRecipe json) throws IllegalValueException {
+            return json.toModelType();
+        }
+
+        @Override
+        Command createAddCommand(Recipe entry) {
+            return new AddRecipeCommand(entry);
+        }
+
+        @Override
+        Command createDeleteCommand(Name name) {
+            return new DeleteRecipeCommand(name);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.ingredient.exceptions.DuplicateIngredientException;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A class to access IngredientBook data stored in the binary snapshot format on the hard disk.
+ * The format is several times smaller and faster to load than json; see {@link BinarySnapshotWriter}.
+ * Use {@link SnapshotConverter} to convert between the two.
+ */
+public class BinaryIngredientBookStorage implements IngredientBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryIngredientBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryIngredientBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getIngredientBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyIngredientBook> readIngredientBook() throws DataConversionException {
+        return readIngredientBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readIngredientBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyIngredientBook> readIngredientBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            IngredientBook ingredientBook = new IngredientBook();
+            ingredientBook.setFoodEntries(BinarySnapshotReader.readIngredients(filePath));
+            return Optional.of(ingredientBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateIngredientException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(
+                    JsonIngredientBookStorage.MESSAGE_DUPLICATE_INGREDIENT, e));
+        }
+    }
+
+    @Override
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) throws IOException {
+        saveIngredientBook(ingredientBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveIngredientBook(ReadOnlyIngredientBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook, Path filePath) throws IOException {
+        requireNonNull(ingredientBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinarySnapshotWriter.writeIngredients(filePath, ingredientBook.getFoodEntryList());
+    }
+
+}
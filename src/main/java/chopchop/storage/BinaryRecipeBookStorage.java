@@ -0,0 +1,93 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.exceptions.DuplicateRecipeException;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A class to access RecipeBook data stored in the binary snapshot format on the hard disk.
+ * The format is several times smaller and faster to load than json; see {@link BinarySnapshotWriter}.
+ * Use {@link SnapshotConverter} to convert between the two.
+ * The recipes read only hold their names in memory, and load their ingredients and steps when first used.
+ */
+public class BinaryRecipeBookStorage implements RecipeBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRecipeBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryRecipeBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getRecipeBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException {
+        return readRecipeBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setFoodEntries(BinarySnapshotReader.readRecipes(filePath));
+            return Optional.of(recipeBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(
+                    JsonRecipeBookStorage.MESSAGE_DUPLICATE_RECIPE, e));
+        }
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireNonNull(recipeBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinarySnapshotWriter.writeRecipes(filePath, recipeBook.getFoodEntryList());
+    }
+
+}
@@ -0,0 +1,325 @@
+package chopchop.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * Reads snapshots written by {@link BinarySnapshotWriter}.
+ *
+ * The file is read into a buffer in one go and closed straight away, rather than memory-mapped. A mapping
+ * keeps the file open until the buffer is garbage collected, and on Windows an open mapping stops a new
+ * snapshot from being renamed over the file. Each name and step in the string table is decoded and validated
+ * at most once, when an entry first refers to it, and entries with the same expiry date share one
+ * {@code ExpiryDate}.
+ *
+ * Recipes are read lazily: reading a snapshot of recipes only decodes their names, and keeps the buffer so that
+ * each recipe's ingredients and steps are decoded when they are first used. The most recently used bodies are
+ * cached, up to {@link #RECIPE_CACHE_SIZE} of them. The rest of each recipe is still checked to be well-formed
+ * when the snapshot is read, so a truncated or garbled snapshot is rejected straight away.
+ */
+class BinarySnapshotReader {
+
+    static final int RECIPE_CACHE_SIZE = 256;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "Not a binary snapshot of %s";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version %d";
+    static final String MESSAGE_CORRUPT = "Binary snapshot is corrupt";
+
+    private final ByteBuffer buffer;
+    private final int[] stringPositions;
+    private final String[] strings;
+    private final Name[] names;
+    private final Step[] steps;
+    private final Map<Long, ExpiryDate> expiryDates = new HashMap<>();
+    private byte[] stringBytes = new byte[64];
+
+    private BinarySnapshotReader(ByteBuffer buffer, byte kind) throws IllegalValueException {
+        this.buffer = buffer;
+        if (buffer.getInt() != BinarySnapshotWriter.MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_SNAPSHOT, describe(kind)));
+        }
+        byte version = buffer.get();
+        if (version != BinarySnapshotWriter.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (buffer.get() != kind) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_SNAPSHOT, describe(kind)));
+        }
+
+        // strings are only located here, and decoded when first used
+        stringPositions = new int[readCount()];
+        for (int i = 0; i < stringPositions.length; i++) {
+            stringPositions[i] = buffer.position();
+            int length = readCount();
+            buffer.position(buffer.position() + length);
+        }
+        strings = new String[stringPositions.length];
+        names = new Name[strings.length];
+        steps = new Step[strings.length];
+    }
+
+    /**
+     * Reads the ingredients in the snapshot {@code file}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a snapshot of ingredients, or holds invalid data.
+     */
+    static List<Ingredient> readIngredients(Path file) throws IOException, IllegalValueException {
+        ByteBuffer buffer = read(file);
+        try {
+            BinarySnapshotReader reader = new BinarySnapshotReader(buffer, BinarySnapshotWriter.INGREDIENTS);
+            int count = reader.readCount();
+            List<Ingredient> ingredients = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ingredients.add(reader.readIngredient());
+            }
+            reader.checkAtEnd();
+            return ingredients;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    /**
+     * Reads the recipes in the snapshot {@code file}, whose bodies are loaded lazily.
+     * A body that turns out to hold invalid data when it is loaded throws an {@code IllegalStateException}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a snapshot of recipes, or is corrupt.
+     */
+    static List<Recipe> readRecipes(Path file) throws IOException, IllegalValueException {
+        ByteBuffer buffer = read(file);
+        try {
+            BinarySnapshotReader reader = new BinarySnapshotReader(buffer, BinarySnapshotWriter.RECIPES);
+            RecipeBodies bodies = new RecipeBodies(reader);
+            int count = reader.readCount();
+            List<Recipe> recipes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int position = buffer.position();
+                Name name = reader.readName();
+                reader.skipRecipeBody();
+                recipes.add(Recipe.withLazyBody(name, () -> bodies.get(position)));
+            }
+            reader.checkAtEnd();
+            return recipes;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    /**
+     * Reads the whole of {@code file} into a new buffer.
+     */
+    private static ByteBuffer read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary snapshot " + file + " is too large to read");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Binary snapshot " + file + " ended while being read");
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private Ingredient readIngredient() throws IllegalValueException {
+        Name name = readName();
+
+        long quantityBits = readVarLong();
+        double quantity = (quantityBits & 1) == 0 ? quantityBits >>> 1 : buffer.getDouble();
+        if (!Quantity.isValidQuantity(quantity)) {
+            throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+
+        long zigzagEpochDay = readVarLong();
+        long epochDay = (zigzagEpochDay >>> 1) ^ -(zigzagEpochDay & 1);
+        ExpiryDate expiryDate = expiryDates.get(epochDay);
+        if (expiryDate == null) {
+            try {
+                expiryDate = ExpiryDate.of(LocalDate.ofEpochDay(epochDay));
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(ExpiryDate.MESSAGE_CONSTRAINTS, e);
+            }
+            expiryDates.put(epochDay, expiryDate);
+        }
+
+        return new Ingredient(name, new Quantity(quantity), expiryDate);
+    }
+
+    /**
+     * Skips over the ingredients and steps of a recipe without creating any of them, checking that their counts
+     * and references to the string table are valid.
+     */
+    private void skipRecipeBody() throws IllegalValueException {
+        int ingredientCount = readCount();
+        for (int i = 0; i < ingredientCount; i++) {
+            readStringIndex();
+            if ((readVarLong() & 1) != 0) {
+                buffer.position(buffer.position() + Double.BYTES);
+            }
+            readVarLong();
+        }
+
+        int stepCount = readCount();
+        for (int i = 0; i < stepCount; i++) {
+            readStringIndex();
+        }
+    }
+
+    private Recipe readRecipe() throws IllegalValueException {
+        Name name = readName();
+
+        int ingredientCount = readCount();
+        Set<Ingredient> ingredients = new LinkedHashSet<>();
+        for (int i = 0; i < ingredientCount; i++) {
+            ingredients.add(readIngredient());
+        }
+
+        int stepCount = readCount();
+        List<Step> recipeSteps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            int index = readStringIndex();
+            if (steps[index] == null) {
+                try {
+                    steps[index] = Step.of(getString(index));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalValueException(Step.MESSAGE_CONSTRAINTS, e);
+                }
+            }
+            recipeSteps.add(steps[index]);
+        }
+
+        return new Recipe(name, ingredients, recipeSteps);
+    }
+
+    private Name readName() throws IllegalValueException {
+        int index = readStringIndex();
+        if (names[index] == null) {
+            try {
+                names[index] = Name.of(getString(index));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS, e);
+            }
+        }
+        return names[index];
+    }
+
+    private String getString(int index) throws IllegalValueException {
+        if (strings[index] == null) {
+            int position = buffer.position();
+            buffer.position(stringPositions[index]);
+            int length = readCount();
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            strings[index] = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+            buffer.position(position);
+        }
+        return strings[index];
+    }
+
+    private int readStringIndex() throws IllegalValueException {
+        long index = readVarLong();
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return (int) index;
+    }
+
+    /**
+     * Reads a count or length, which cannot be more than the number of bytes left, as every item takes at
+     * least one byte.
+     */
+    private int readCount() throws IllegalValueException {
+        long count = readVarLong();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return (int) count;
+    }
+
+    private long readVarLong() throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPT);
+    }
+
+    private void checkAtEnd() throws IllegalValueException {
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+    }
+
+    /**
+     * The bodies of the recipes in one snapshot, decoded when first asked for, of which the most recently used
+     * are kept. Bodies may be asked for from any thread, so decoding, which moves the shared buffer, is locked.
+     */
+    private static class RecipeBodies {
+        private final BinarySnapshotReader reader;
+        private final Map<Integer, Recipe> cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Recipe> eldest) {
+                return size() > RECIPE_CACHE_SIZE;
+            }
+        };
+
+        RecipeBodies(BinarySnapshotReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the recipe that starts at {@code position}, with its body loaded.
+         */
+        synchronized Recipe get(int position) {
+            Recipe recipe = cache.get(position);
+            if (recipe == null) {
+                try {
+                    reader.buffer.position(position);
+                    recipe = reader.readRecipe();
+                } catch (IllegalValueException | BufferUnderflowException e) {
+                    throw new IllegalStateException(MESSAGE_CORRUPT, e);
+                }
+                cache.put(position, recipe);
+            }
+            return recipe;
+        }
+    }
+
+    private static String describe(byte kind) {
+        return kind == BinarySnapshotWriter.INGREDIENTS ? "ingredients" : "recipes";
+    }
+}
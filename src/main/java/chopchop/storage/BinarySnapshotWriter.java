@@ -0,0 +1,147 @@
+package chopchop.storage;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import chopchop.commons.util.FileUtil;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * Writes ingredients or recipes in the binary snapshot format, a compact alternative to the json files.
+ *
+ * A snapshot starts with {@link #MAGIC}, {@link #VERSION} and a byte saying whether it holds
+ * {@link #INGREDIENTS} or {@link #RECIPES}. Then comes a table of every distinct name and step, each stored
+ * once as its length and UTF-8 bytes, and finally the entries, which refer to names and steps by their position
+ * in the table. All counts, lengths and positions are varints: seven bits per byte, least significant first,
+ * with the top bit set on every byte except the last.
+ *
+ * An ingredient is its name, its quantity and its expiry date. A whole quantity is stored as a varint of twice
+ * its value, and any other quantity as the varint 1 followed by the 8 bytes of the double. An expiry date is
+ * stored as its epoch day, zig-zag encoded so that dates before 1970 stay short. A recipe is its name, its
+ * ingredients and its steps, each list preceded by its length.
+ *
+ * @see BinarySnapshotReader
+ */
+class BinarySnapshotWriter {
+
+    /** The first four bytes of every snapshot, "CCBS". */
+    static final int MAGIC = 0x43434253;
+    static final byte VERSION = 1;
+    static final byte INGREDIENTS = 'I';
+    static final byte RECIPES = 'R';
+
+    /** Quantities up to this value are written as varints, larger ones as doubles. */
+    static final double MAX_VARINT_QUANTITY = 1L << 52;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private BinarySnapshotWriter() {}
+
+    /**
+     * Writes {@code ingredients} to {@code file}, replacing it atomically.
+     */
+    static void writeIngredients(Path file, List<Ingredient> ingredients) throws IOException {
+        requireAllNonNull(file, ingredients);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        ingredients.forEach(ingredient -> writer.addString(ingredient.getName().fullName));
+        FileUtil.writeAtomically(file, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            writer.writeHeader(data, INGREDIENTS);
+            writeVarLong(data, ingredients.size());
+            for (Ingredient ingredient : ingredients) {
+                writer.writeIngredient(data, ingredient);
+            }
+            data.flush();
+        });
+    }
+
+    /**
+     * Writes {@code recipes} to {@code file}, replacing it atomically.
+     */
+    static void writeRecipes(Path file, List<Recipe> recipes) throws IOException {
+        requireAllNonNull(file, recipes);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        for (Recipe recipe : recipes) {
+            writer.addString(recipe.getName().fullName);
+            recipe.getIngredients().forEach(ingredient -> writer.addString(ingredient.getName().fullName));
+            recipe.getSteps().forEach(step -> writer.addString(step.step));
+        }
+        FileUtil.writeAtomically(file, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            writer.writeHeader(data, RECIPES);
+            writeVarLong(data, recipes.size());
+            for (Recipe recipe : recipes) {
+                writer.writeRecipe(data, recipe);
+            }
+            data.flush();
+        });
+    }
+
+    private void addString(String string) {
+        if (!stringIndexes.containsKey(string)) {
+            stringIndexes.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private void writeHeader(DataOutputStream out, byte kind) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(kind);
+        writeVarLong(out, strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private void writeIngredient(DataOutputStream out, Ingredient ingredient) throws IOException {
+        writeVarLong(out, stringIndexes.get(ingredient.getName().fullName));
+
+        double quantity = ingredient.getQuantity().value;
+        if (quantity == Math.rint(quantity) && quantity <= MAX_VARINT_QUANTITY) {
+            writeVarLong(out, (long) quantity << 1);
+        } else {
+            writeVarLong(out, 1);
+            out.writeDouble(quantity);
+        }
+
+        long epochDay = ingredient.getExpiryDate().getDate().toEpochDay();
+        writeVarLong(out, (epochDay << 1) ^ (epochDay >> 63));
+    }
+
+    private void writeRecipe(DataOutputStream out, Recipe recipe) throws IOException {
+        writeVarLong(out, stringIndexes.get(recipe.getName().fullName));
+        writeVarLong(out, recipe.getIngredients().size());
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            writeIngredient(out, ingredient);
+        }
+        writeVarLong(out, recipe.getSteps().size());
+        for (Step step : recipe.getSteps()) {
+            writeVarLong(out, stringIndexes.get(step.step));
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+}
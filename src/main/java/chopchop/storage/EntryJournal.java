@@ -0,0 +1,465 @@
+package chopchop.storage;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.commons.util.JsonUtil;
+import chopchop.commons.util.ParallelUtil;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Persists a list of entries as a JSON snapshot followed by an append-only journal of the changes made since.
+ *
+ * While a list is {@link #start(ObservableList) tracked}, every change to it is appended to the journal as one
+ * record per entry added or removed, so saving after a command costs time proportional to what the command
+ * changed rather than to the size of the list. Saving a list writes a snapshot of it and starts tracking it,
+ * and saving the tracked list again only forces the records appended since to disk. Records are written out
+ * as they are made, but are only certain to survive a crash once the list has been saved, so a save after
+ * each command commits that command's records as one group.
+ *
+ * Once {@code compactionThreshold} records have built up, the current entries are folded into a new snapshot
+ * by a background thread. The journal is set aside as a numbered segment when that happens, and the segment
+ * is deleted once the new snapshot is in place.
+ *
+ * Records are numbered, and each snapshot remembers the last record it includes, so a crash at any point
+ * of a compaction neither loses records nor applies them twice. Loading reads the snapshot and replays the
+ * records that come after it.
+ *
+ * @param <T> the type of the entries.
+ * @param <A> the Jackson-friendly type the entries are stored as.
+ */
+class EntryJournal<T, A> {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    static final String SEQUENCE_FIELD = "journalSequence";
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    static final String MESSAGE_INVALID_SEQUENCE = "Snapshot has an invalid journal sequence: %s";
+    static final String MESSAGE_MISSING_RECORDS = "Journal is missing record %d";
+    static final String MESSAGE_INVALID_RECORD = "Journal record %d cannot be applied";
+
+    private static final Logger logger = LogsCenter.getLogger(EntryJournal.class);
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final String entriesField;
+    private final Class<A> adaptedClass;
+    private final Function<? super T, ? extends A> toAdapted;
+    private final ModelConverter<? super A, ? extends T> toModel;
+    private final int compactionThreshold;
+
+    private final ListChangeListener<T> listener = this::append;
+    private ObservableList<T> trackedEntries;
+    private FileChannel channel;
+    private BufferedWriter writer;
+    private ExecutorService compactor;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    // only touched by the thread that changes the tracked list
+    private long lastSequence;
+    private long recordsSinceSnapshot;
+
+    /**
+     * Creates an {@code EntryJournal} that keeps its snapshot in {@code snapshotFile}, as the array field
+     * {@code entriesField}, and its journal alongside.
+     */
+    EntryJournal(Path snapshotFile, String entriesField, Class<A> adaptedClass,
+            Function<? super T, ? extends A> toAdapted, ModelConverter<? super A, ? extends T> toModel,
+            int compactionThreshold) {
+        requireAllNonNull(snapshotFile, entriesField, adaptedClass, toAdapted, toModel);
+        this.snapshotFile = snapshotFile;
+        this.journalFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + JOURNAL_SUFFIX);
+        this.entriesField = entriesField;
+        this.adaptedClass = adaptedClass;
+        this.toAdapted = toAdapted;
+        this.toModel = toModel;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    Path getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Reads the snapshot and replays the journal over it.
+     * Returns {@code Optional.empty()} if there is neither a snapshot nor a journal.
+     *
+     * A final record that was only partly written, as happens when the app stops in the middle of writing it,
+     * is ignored.
+     *
+     * @throws IOException if the files could not be read or are not in the expected format.
+     * @throws IllegalValueException if an entry is invalid, or the records do not follow on from the snapshot.
+     */
+    Optional<List<T>> load() throws IOException, IllegalValueException {
+        List<Path> journals = getSegments();
+        if (Files.exists(journalFile)) {
+            journals.add(journalFile);
+        }
+        if (!Files.exists(snapshotFile) && journals.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<T> entries = new ArrayList<>();
+        long snapshotSequence = 0;
+        if (Files.exists(snapshotFile)) {
+            ParallelUtil.ChunkedConversion<A, T> snapshotEntries =
+                    new ParallelUtil.ChunkedConversion<>(toModel::toModelType);
+            Map<String, String> fields = JsonUtil.readJsonArrayFile(snapshotFile, entriesField, adaptedClass,
+                snapshotEntries::add);
+            entries.addAll(snapshotEntries.getResults());
+            snapshotSequence = parseSequence(fields.get(SEQUENCE_FIELD));
+        }
+
+        lastSequence = snapshotSequence;
+        for (Path journal : journals) {
+            replay(journal, entries);
+        }
+        recordsSinceSnapshot = lastSequence - snapshotSequence;
+        return Optional.of(entries);
+    }
+
+    /**
+     * Starts appending every change made to {@code entries} to the journal.
+     * {@code entries} must hold exactly what was last loaded or saved.
+     */
+    void start(ObservableList<T> entries) {
+        requireNonNull(entries);
+        stop();
+        trackedEntries = entries;
+        entries.addListener(listener);
+    }
+
+    /**
+     * Makes sure {@code entries} is persisted, and tracks it from then on.
+     *
+     * If {@code entries} is the tracked list, its changes are already in the journal, which is only forced to
+     * disk. Otherwise {@code entries} is written out as a new snapshot on the caller's thread, replacing the
+     * snapshot and journal, and then tracked instead.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void save(ObservableList<T> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries == trackedEntries) {
+            sync();
+            return;
+        }
+
+        saveSnapshot(entries);
+        start(entries);
+    }
+
+    /**
+     * Writes {@code entries} out as a new snapshot on the caller's thread, replacing the snapshot and journal,
+     * without tracking it.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveSnapshot(List<? extends T> entries) throws IOException {
+        requireNonNull(entries);
+        stop();
+        awaitCompaction();
+        List<Path> staleJournals = getSegments();
+        if (Files.exists(journalFile)) {
+            staleJournals.add(journalFile);
+        }
+
+        writeSnapshot(entries, lastSequence);
+        for (Path journal : staleJournals) {
+            Files.deleteIfExists(journal);
+        }
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Forces the records appended so far to disk.
+     */
+    private void sync() throws IOException {
+        if (writer != null) {
+            writer.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Stops journalling changes, and waits for a compaction in progress to finish.
+     */
+    void close() throws IOException {
+        stop();
+        awaitCompaction();
+        if (compactor != null) {
+            compactor.shutdown();
+        }
+    }
+
+    private void stop() {
+        if (trackedEntries != null) {
+            trackedEntries.removeListener(listener);
+            trackedEntries = null;
+        }
+        try {
+            closeJournal();
+        } catch (IOException e) {
+            logger.warning("Could not close journal " + journalFile + ": " + e);
+        }
+    }
+
+    /**
+     * Appends the records of {@code change} to the journal, and compacts it if enough records have built up.
+     */
+    private void append(ListChangeListener.Change<? extends T> change) {
+        try {
+            while (change.next()) {
+                // a permutation is recorded as removing and re-adding the permuted range
+                int removed = change.wasPermutated() ? change.getTo() - change.getFrom() : change.getRemovedSize();
+                for (int i = 0; i < removed; i++) {
+                    write(new JsonJournalRecord(lastSequence + 1, JsonJournalRecord.REMOVE, change.getFrom(), null));
+                }
+                List<? extends T> added = change.wasPermutated()
+                        ? change.getList().subList(change.getFrom(), change.getTo())
+                        : change.getAddedSubList();
+                for (int i = 0; i < added.size(); i++) {
+                    write(new JsonJournalRecord(lastSequence + 1, JsonJournalRecord.ADD, change.getFrom() + i,
+                            toAdapted.apply(added.get(i))));
+                }
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // the journal may now end in a broken record, so set it aside and take a snapshot instead
+            logger.warning("Could not append to journal " + journalFile + ": " + e);
+            compactInBackground();
+            return;
+        }
+
+        if (recordsSinceSnapshot >= compactionThreshold) {
+            compactInBackground();
+        }
+    }
+
+    private void write(JsonJournalRecord record) throws IOException {
+        if (writer == null) {
+            FileUtil.createParentDirsOfFile(journalFile);
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+        }
+        writer.write(JsonUtil.toJsonLine(record));
+        writer.write('\n');
+        lastSequence = record.getSequence();
+        recordsSinceSnapshot++;
+    }
+
+    /**
+     * Sets the journal aside and has the background thread fold the current entries into a new snapshot.
+     * Does nothing if the previous compaction is still running.
+     */
+    private void compactInBackground() {
+        if (!compaction.isDone()) {
+            return;
+        }
+
+        // entries are immutable, so a shallow copy is a consistent snapshot
+        List<T> entries = new ArrayList<>(trackedEntries);
+        long sequence = lastSequence;
+        try {
+            closeJournal();
+            if (Files.exists(journalFile)) {
+                Files.move(journalFile, getSegmentFile(sequence));
+            }
+        } catch (IOException e) {
+            logger.warning("Could not set journal " + journalFile + " aside: " + e);
+            return;
+        }
+        recordsSinceSnapshot = 0;
+
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(entries, sequence);
+                for (Path segment : getSegments()) {
+                    if (getSegmentSequence(segment) <= sequence) {
+                        Files.delete(segment);
+                    }
+                }
+            } catch (IOException e) {
+                // the segments are kept, so nothing is lost; the next compaction will try again
+                logger.warning("Could not compact journal " + journalFile + ": " + e);
+            }
+        });
+    }
+
+    private void awaitCompaction() throws IOException {
+        try {
+            compaction.get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void writeSnapshot(List<? extends T> entries, long sequence) throws IOException {
+        FileUtil.createParentDirsOfFile(snapshotFile);
+        JsonUtil.saveJsonArrayFile(snapshotFile, Collections.singletonMap(SEQUENCE_FIELD, sequence), entriesField,
+                entries, toAdapted);
+    }
+
+    private void closeJournal() throws IOException {
+        if (writer != null) {
+            BufferedWriter toClose = writer;
+            try {
+                sync();
+            } finally {
+                writer = null;
+                channel = null;
+                toClose.close();
+            }
+        }
+    }
+
+    /**
+     * Applies the records of {@code journal} that come after {@code lastSequence} to {@code entries}.
+     */
+    private void replay(Path journal, List<T> entries) throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (line.isBlank()) {
+                    line = nextLine;
+                    continue;
+                }
+
+                JsonJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring partly written record at the end of " + journal);
+                    break;
+                }
+
+                if (record.getSequence() > lastSequence) {
+                    if (record.getSequence() != lastSequence + 1) {
+                        throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORDS, lastSequence + 1));
+                    }
+                    apply(record, entries);
+                    lastSequence = record.getSequence();
+                }
+                line = nextLine;
+            }
+        }
+    }
+
+    private void apply(JsonJournalRecord record, List<T> entries) throws IllegalValueException {
+        int index = record.getIndex();
+        if (JsonJournalRecord.ADD.equals(record.getOperation()) && record.getEntry() != null
+                && index >= 0 && index <= entries.size()) {
+            A adapted;
+            try {
+                adapted = JsonUtil.convertValue(record.getEntry(), adaptedClass);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getSequence()), e);
+            }
+            entries.add(index, toModel.toModelType(adapted));
+        } else if (JsonJournalRecord.REMOVE.equals(record.getOperation()) && index >= 0 && index < entries.size()) {
+            entries.remove(index);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getSequence()));
+        }
+    }
+
+    private static long parseSequence(String sequence) throws IllegalValueException {
+        if (sequence == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEQUENCE, sequence), e);
+        }
+    }
+
+    /**
+     * Returns the journal segments that were set aside for compaction, oldest first.
+     */
+    private List<Path> getSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        Path directory = journalFile.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        String prefix = journalFile.getFileName() + ".";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(prefix) && name.length() > prefix.length()
+                        && name.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+                    segments.add(file);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(EntryJournal::getSegmentSequence));
+        return segments;
+    }
+
+    private Path getSegmentFile(long sequence) {
+        return journalFile.resolveSibling(journalFile.getFileName() + "." + sequence);
+    }
+
+    /**
+     * Returns the sequence number of the last record in {@code segment}.
+     */
+    private static long getSegmentSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Converts a Jackson-friendly entry back into the model's type.
+     */
+    @FunctionalInterface
+    interface ModelConverter<A, T> {
+        T toModelType(A adapted) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,137 @@
+package chopchop.storage;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Accesses a book of entries stored as a json snapshot plus a journal of the changes made since. This holds what
+ * {@link JournalledIngredientBookStorage} and {@link JournalledRecipeBookStorage} share; they only adapt it to
+ * their own book types.
+ *
+ * The first time a book is saved, a snapshot of it is written and its changes are appended to the journal from then
+ * on, as they happen. Saving the same book again, as after each command, then only forces those changes to disk
+ * instead of rewriting the whole book.
+ *
+ * @param <T> the type of the entries.
+ * @param <A> the Jackson-friendly type the entries are stored as.
+ * @param <B> the type of the book read back.
+ * @see EntryJournal
+ */
+abstract class JournalledFoodEntryBookStorage<T, A, B> {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalledFoodEntryBookStorage.class);
+
+    private final Path filePath;
+    private final String entriesField;
+    private final Class<A> adaptedClass;
+    private final Function<? super T, ? extends A> toAdapted;
+    private final EntryJournal.ModelConverter<? super A, ? extends T> toModel;
+    private final int compactionThreshold;
+    private final EntryJournal<T, A> journal;
+
+    /**
+     * Creates a storage that keeps the entries in {@code filePath}, as the array field {@code entriesField}, and
+     * folds the journal into a new snapshot once it holds {@code compactionThreshold} records.
+     */
+    JournalledFoodEntryBookStorage(Path filePath, int compactionThreshold, String entriesField,
+            Class<A> adaptedClass, Function<? super T, ? extends A> toAdapted,
+            EntryJournal.ModelConverter<? super A, ? extends T> toModel) {
+        requireAllNonNull(filePath, entriesField, adaptedClass, toAdapted, toModel);
+        this.filePath = filePath;
+        this.entriesField = entriesField;
+        this.adaptedClass = adaptedClass;
+        this.toAdapted = toAdapted;
+        this.toModel = toModel;
+        this.compactionThreshold = compactionThreshold;
+        this.journal = createJournal(filePath);
+    }
+
+    /**
+     * Creates a book holding {@code entries}.
+     *
+     * @throws IllegalValueException if {@code entries} holds duplicates.
+     */
+    abstract B createBook(List<T> entries) throws IllegalValueException;
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the book in {@code filePath}, replaying its journal, or returns an empty {@code Optional} if there is
+     * no book there.
+     *
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    Optional<B> readBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<List<T>> entries = getJournal(filePath).load();
+            if (entries.isEmpty()) {
+                logger.info("Snapshot " + filePath + " not found");
+                return Optional.empty();
+            }
+            return Optional.of(createBook(entries.get()));
+        } catch (IOException e) {
+            logger.warning("Error reading snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves {@code entries} to {@code filePath}. If that is this storage's file and {@code entries} are being
+     * journalled, this only forces the journal to disk. Otherwise the entries are saved as a new snapshot, and are
+     * only journalled from then on if they were saved to this storage's file.
+     */
+    void saveBook(ObservableList<T> entries, Path filePath) throws IOException {
+        requireAllNonNull(entries, filePath);
+
+        if (filePath.equals(this.filePath)) {
+            journal.save(entries);
+        } else {
+            createJournal(filePath).saveSnapshot(entries);
+        }
+    }
+
+    /**
+     * Starts journalling every change made to {@code entries}, which must hold exactly what was last read from or
+     * saved to this storage.
+     */
+    void startJournal(ObservableList<T> entries) {
+        requireNonNull(entries);
+        journal.start(entries);
+    }
+
+    /**
+     * Stops journalling, and waits for any snapshot being written in the background.
+     * Changes that were saved are already on disk, so skipping this at exit loses nothing, and a compaction cut
+     * short is picked up again from its journal segment on the next read.
+     */
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    private EntryJournal<T, A> getJournal(Path filePath) {
+        return filePath.equals(this.filePath) ? journal : createJournal(filePath);
+    }
+
+    private EntryJournal<T, A> createJournal(Path filePath) {
+        return new EntryJournal<>(filePath, entriesField, adaptedClass, toAdapted, toModel, compactionThreshold);
+    }
+}
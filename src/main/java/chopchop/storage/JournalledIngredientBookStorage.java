@@ -0,0 +1,99 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.ingredient.exceptions.DuplicateIngredientException;
+
+/**
+ * A class to access IngredientBook data stored as a json snapshot plus a journal of the changes made since.
+ * The snapshot has the same format as the file of {@link JsonIngredientBookStorage}.
+ *
+ * @see JournalledFoodEntryBookStorage
+ */
+public class JournalledIngredientBookStorage
+        extends JournalledFoodEntryBookStorage<Ingredient, JsonAdaptedIngredient, ReadOnlyIngredientBook>
+        implements IngredientBookStorage {
+
+    public JournalledIngredientBookStorage(Path filePath) {
+        this(filePath, EntryJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalledIngredientBookStorage} that folds the journal into a new snapshot once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournalledIngredientBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath, compactionThreshold, JsonIngredientBookStorage.INGREDIENTS_FIELD, JsonAdaptedIngredient.class,
+                JsonAdaptedIngredient::new, JsonAdaptedIngredient::toModelType);
+    }
+
+    public Path getIngredientBookFilePath() {
+        return getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyIngredientBook> readIngredientBook() throws DataConversionException {
+        return readIngredientBook(getFilePath());
+    }
+
+    /**
+     * Similar to {@link #readIngredientBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public Optional<ReadOnlyIngredientBook> readIngredientBook(Path filePath) throws DataConversionException {
+        return readBook(filePath);
+    }
+
+    /**
+     * Saves {@code ingredientBook}. If it is the book being journalled, this only forces its journal to disk.
+     * Otherwise the whole book is saved as a new snapshot, discarding the journal, and journalled from then on.
+     */
+    @Override
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) throws IOException {
+        saveIngredientBook(ingredientBook, getFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveIngredientBook(ReadOnlyIngredientBook)}.
+     *
+     * A book saved to a file other than this storage's is written as a snapshot but not journalled.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook, Path filePath) throws IOException {
+        requireNonNull(ingredientBook);
+        saveBook(ingredientBook.getFoodEntryList(), filePath);
+    }
+
+    /**
+     * Starts journalling every change made to {@code ingredientBook}, which must hold exactly what was last read
+     * from or saved to this storage. This saves writing a snapshot of a book that was just read.
+     */
+    public void startJournal(ReadOnlyIngredientBook ingredientBook) {
+        requireNonNull(ingredientBook);
+        startJournal(ingredientBook.getFoodEntryList());
+    }
+
+    @Override
+    ReadOnlyIngredientBook createBook(List<Ingredient> ingredients) throws IllegalValueException {
+        try {
+            IngredientBook ingredientBook = new IngredientBook();
+            ingredientBook.setFoodEntries(ingredients);
+            return ingredientBook;
+        } catch (DuplicateIngredientException e) {
+            throw new IllegalValueException(JsonIngredientBookStorage.MESSAGE_DUPLICATE_INGREDIENT, e);
+        }
+    }
+}
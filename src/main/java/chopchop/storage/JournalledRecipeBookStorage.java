@@ -0,0 +1,99 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.exceptions.DuplicateRecipeException;
+
+/**
+ * A class to access RecipeBook data stored as a json snapshot plus a journal of the changes made since.
+ * The snapshot has the same format as the file of {@link JsonRecipeBookStorage}.
+ *
+ * @see JournalledFoodEntryBookStorage
+ */
+public class JournalledRecipeBookStorage
+        extends JournalledFoodEntryBookStorage<Recipe, JsonAdaptedRecipe, ReadOnlyRecipeBook>
+        implements RecipeBookStorage {
+
+    public JournalledRecipeBookStorage(Path filePath) {
+        this(filePath, EntryJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalledRecipeBookStorage} that folds the journal into a new snapshot once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournalledRecipeBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath, compactionThreshold, JsonRecipeBookStorage.RECIPES_FIELD, JsonAdaptedRecipe.class,
+                JsonAdaptedRecipe::new, JsonAdaptedRecipe::toModelType);
+    }
+
+    public Path getRecipeBookFilePath() {
+        return getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException {
+        return readRecipeBook(getFilePath());
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException {
+        return readBook(filePath);
+    }
+
+    /**
+     * Saves {@code recipeBook}. If it is the book being journalled, this only forces its journal to disk.
+     * Otherwise the whole book is saved as a new snapshot, discarding the journal, and journalled from then on.
+     */
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, getFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     *
+     * A book saved to a file other than this storage's is written as a snapshot but not journalled.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireNonNull(recipeBook);
+        saveBook(recipeBook.getFoodEntryList(), filePath);
+    }
+
+    /**
+     * Starts journalling every change made to {@code recipeBook}, which must hold exactly what was last read
+     * from or saved to this storage. This saves writing a snapshot of a book that was just read.
+     */
+    public void startJournal(ReadOnlyRecipeBook recipeBook) {
+        requireNonNull(recipeBook);
+        startJournal(recipeBook.getFoodEntryList());
+    }
+
+    @Override
+    ReadOnlyRecipeBook createBook(List<Recipe> recipes) throws IllegalValueException {
+        try {
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setFoodEntries(recipes);
+            return recipeBook;
+        } catch (DuplicateRecipeException e) {
+            throw new IllegalValueException(JsonRecipeBookStorage.MESSAGE_DUPLICATE_RECIPE, e);
+        }
+    }
+}
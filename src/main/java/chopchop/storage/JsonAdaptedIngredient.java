@@ -0,0 +1,78 @@
+package chopchop.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.ingredient.Ingredient;
+
+/**
+ * Jackson-friendly version of {@link Ingredient}.
+ */
+public class JsonAdaptedIngredient {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Ingredient's %s field is missing!";
+
+    private final String name;
+    private final Double quantity;
+    private final String expiryDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedIngredient} with the given ingredient details.
+     */
+    @JsonCreator
+    public JsonAdaptedIngredient(@JsonProperty("name") String name, @JsonProperty("quantity") Double quantity,
+            @JsonProperty("expiryDate") String expiryDate) {
+        this.name = name;
+        this.quantity = quantity;
+        this.expiryDate = expiryDate;
+    }
+
+    /**
+     * Converts a given {@code Ingredient} into this class for Jackson use.
+     */
+    public JsonAdaptedIngredient(Ingredient source) {
+        name = source.getName().fullName;
+        quantity = source.getQuantity().value;
+        expiryDate = source.getExpiryDate().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted ingredient object into the model's {@code Ingredient} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted ingredient.
+     */
+    public Ingredient toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Name modelName = Name.of(name);
+
+        if (quantity == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, Quantity.class.getSimpleName()));
+        }
+        if (!Quantity.isValidQuantity(quantity)) {
+            throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+        final Quantity modelQuantity = new Quantity(quantity);
+
+        if (expiryDate == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, ExpiryDate.class.getSimpleName()));
+        }
+        if (!ExpiryDate.isValidDate(expiryDate)) {
+            throw new IllegalValueException(ExpiryDate.MESSAGE_CONSTRAINTS);
+        }
+        final ExpiryDate modelExpiryDate = new ExpiryDate(expiryDate);
+
+        return new Ingredient(modelName, modelQuantity, modelExpiryDate);
+    }
+
+}
@@ -0,0 +1,87 @@
+package chopchop.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * Jackson-friendly version of {@link Recipe}.
+ */
+public class JsonAdaptedRecipe {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recipe's %s field is missing!";
+
+    private final String name;
+    private final List<JsonAdaptedIngredient> ingredients = new ArrayList<>();
+    private final List<String> steps = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecipe} with the given recipe details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecipe(@JsonProperty("name") String name,
+            @JsonProperty("ingredients") List<JsonAdaptedIngredient> ingredients,
+            @JsonProperty("steps") List<String> steps) {
+        this.name = name;
+        if (ingredients != null) {
+            this.ingredients.addAll(ingredients);
+        }
+        if (steps != null) {
+            this.steps.addAll(steps);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recipe} into this class for Jackson use.
+     */
+    public JsonAdaptedRecipe(Recipe source) {
+        name = source.getName().fullName;
+        for (Ingredient ingredient : source.getIngredients()) {
+            ingredients.add(new JsonAdaptedIngredient(ingredient));
+        }
+        for (Step step : source.getSteps()) {
+            steps.add(step.step);
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recipe object into the model's {@code Recipe} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recipe.
+     */
+    public Recipe toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Name modelName = Name.of(name);
+
+        final Set<Ingredient> modelIngredients = new HashSet<>();
+        for (JsonAdaptedIngredient ingredient : ingredients) {
+            modelIngredients.add(ingredient.toModelType());
+        }
+
+        final List<Step> modelSteps = new ArrayList<>();
+        for (String step : steps) {
+            if (step == null || !Step.isValidStep(step)) {
+                throw new IllegalValueException(Step.MESSAGE_CONSTRAINTS);
+            }
+            modelSteps.add(Step.of(step));
+        }
+
+        return new Recipe(modelName, modelIngredients, modelSteps);
+    }
+
+}
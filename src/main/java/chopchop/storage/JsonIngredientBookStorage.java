@@ -0,0 +1,122 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import chopchop.commons.core.StorageSettings;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.commons.util.JsonUtil;
+import chopchop.commons.util.ParallelUtil;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.ingredient.exceptions.DuplicateIngredientException;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A class to access IngredientBook data stored as a json file on the hard disk.
+ *
+ * Ingredients are streamed to and from the file one at a time, so the file contents are never held in memory.
+ * When reading, the Jackson-friendly ingredients are handed off in chunks as they are parsed, to be validated and
+ * converted on all available cores, so only a bounded number of them are held at any one time.
+ *
+ * Depending on its {@code StorageSettings}, the file is saved compressed, and a compressed backup of the
+ * previous file is kept on every save. Compressed files are recognised by their header, so either kind is read.
+ */
+public class JsonIngredientBookStorage implements IngredientBookStorage {
+
+    public static final String INGREDIENTS_FIELD = "ingredients";
+    public static final String MESSAGE_DUPLICATE_INGREDIENT = "Ingredients list contains duplicate ingredient(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonIngredientBookStorage.class);
+
+    private Path filePath;
+    private final StorageSettings settings;
+
+    public JsonIngredientBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code JsonIngredientBookStorage} for {@code filePath} that saves as {@code settings} specify.
+     */
+    public JsonIngredientBookStorage(Path filePath, StorageSettings settings) {
+        requireNonNull(settings);
+        this.filePath = filePath;
+        this.settings = settings;
+    }
+
+    public Path getIngredientBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyIngredientBook> readIngredientBook() throws DataConversionException {
+        return readIngredientBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readIngredientBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyIngredientBook> readIngredientBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            // validating and converting the entries is the slow part, so it is spread across all cores while the
+            // rest of the file is still being parsed
+            ParallelUtil.ChunkedConversion<JsonAdaptedIngredient, Ingredient> ingredients =
+                    new ParallelUtil.ChunkedConversion<>(JsonAdaptedIngredient::toModelType);
+            JsonUtil.readJsonArrayFile(filePath, INGREDIENTS_FIELD, JsonAdaptedIngredient.class, ingredients::add);
+
+            IngredientBook ingredientBook = new IngredientBook();
+            ingredientBook.setFoodEntries(ingredients.getResults());
+            return Optional.of(ingredientBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateIngredientException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_INGREDIENT, e));
+        }
+    }
+
+    @Override
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) throws IOException {
+        saveIngredientBook(ingredientBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveIngredientBook(ReadOnlyIngredientBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook, Path filePath) throws IOException {
+        requireNonNull(ingredientBook);
+        requireNonNull(filePath);
+
+        FileUtil.backUp(filePath, settings.getBackupCount());
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, Collections.emptyMap(), INGREDIENTS_FIELD,
+            ingredientBook.getFoodEntryList(), JsonAdaptedIngredient::new, settings.isCompressData());
+    }
+
+}
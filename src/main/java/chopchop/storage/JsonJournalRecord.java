@@ -0,0 +1,49 @@
+package chopchop.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of a single change to a list of food entries, as kept in an {@link EntryJournal}.
+ * An entry was either added at {@code index}, or removed from {@code index}.
+ */
+class JsonJournalRecord {
+
+    public static final String ADD = "add";
+    public static final String REMOVE = "remove";
+
+    private final long sequence;
+    private final String operation;
+    private final int index;
+    private final Object entry;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     * {@code entry} is the Jackson-friendly entry that was added, or null for a removal.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("sequence") long sequence, @JsonProperty("operation") String operation,
+            @JsonProperty("index") int index, @JsonProperty("entry") Object entry) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.index = index;
+        this.entry = entry;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Object getEntry() {
+        return entry;
+    }
+
+}
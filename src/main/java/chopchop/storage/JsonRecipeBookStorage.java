@@ -0,0 +1,122 @@
+package chopchop.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import chopchop.commons.core.StorageSettings;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.commons.util.JsonUtil;
+import chopchop.commons.util.ParallelUtil;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.exceptions.DuplicateRecipeException;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A class to access RecipeBook data stored as a json file on the hard disk.
+ *
+ * Recipes are streamed to and from the file one at a time, so the file contents are never held in memory.
+ * When reading, the Jackson-friendly recipes are handed off in chunks as they are parsed, to be validated and
+ * converted on all available cores, so only a bounded number of them are held at any one time.
+ *
+ * Depending on its {@code StorageSettings}, the file is saved compressed, and a compressed backup of the
+ * previous file is kept on every save. Compressed files are recognised by their header, so either kind is read.
+ */
+public class JsonRecipeBookStorage implements RecipeBookStorage {
+
+    public static final String RECIPES_FIELD = "recipes";
+    public static final String MESSAGE_DUPLICATE_RECIPE = "Recipes list contains duplicate recipe(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonRecipeBookStorage.class);
+
+    private Path filePath;
+    private final StorageSettings settings;
+
+    public JsonRecipeBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code JsonRecipeBookStorage} for {@code filePath} that saves as {@code settings} specify.
+     */
+    public JsonRecipeBookStorage(Path filePath, StorageSettings settings) {
+        requireNonNull(settings);
+        this.filePath = filePath;
+        this.settings = settings;
+    }
+
+    public Path getRecipeBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException {
+        return readRecipeBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            // validating and converting the entries is the slow part, so it is spread across all cores while the
+            // rest of the file is still being parsed
+            ParallelUtil.ChunkedConversion<JsonAdaptedRecipe, Recipe> recipes =
+                    new ParallelUtil.ChunkedConversion<>(JsonAdaptedRecipe::toModelType);
+            JsonUtil.readJsonArrayFile(filePath, RECIPES_FIELD, JsonAdaptedRecipe.class, recipes::add);
+
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setFoodEntries(recipes.getResults());
+            return Optional.of(recipeBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_RECIPE, e));
+        }
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireNonNull(recipeBook);
+        requireNonNull(filePath);
+
+        FileUtil.backUp(filePath, settings.getBackupCount());
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, Collections.emptyMap(), RECIPES_FIELD, recipeBook.getFoodEntryList(),
+            JsonAdaptedRecipe::new, settings.isCompressData());
+    }
+
+}
@@ -0,0 +1,69 @@
+package chopchop.storage;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+
+/**
+ * Converts ingredient and recipe books between the json files and the binary snapshot format.
+ */
+public class SnapshotConverter {
+
+    /**
+     * Converts the ingredient book in the json file {@code jsonFile} into the binary snapshot {@code binaryFile}.
+     *
+     * @throws DataConversionException if {@code jsonFile} is not in the correct format.
+     * @throws IOException if {@code jsonFile} does not exist, or {@code binaryFile} could not be written.
+     */
+    public static void ingredientsToBinary(Path jsonFile, Path binaryFile) throws DataConversionException, IOException {
+        requireAllNonNull(jsonFile, binaryFile);
+        ReadOnlyIngredientBook ingredientBook = new JsonIngredientBookStorage(jsonFile).readIngredientBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFile.toString()));
+        new BinaryIngredientBookStorage(binaryFile).saveIngredientBook(ingredientBook);
+    }
+
+    /**
+     * Converts the ingredient book in the binary snapshot {@code binaryFile} into the json file {@code jsonFile}.
+     *
+     * @throws DataConversionException if {@code binaryFile} is not in the correct format.
+     * @throws IOException if {@code binaryFile} does not exist, or {@code jsonFile} could not be written.
+     */
+    public static void ingredientsToJson(Path binaryFile, Path jsonFile) throws DataConversionException, IOException {
+        requireAllNonNull(binaryFile, jsonFile);
+        ReadOnlyIngredientBook ingredientBook = new BinaryIngredientBookStorage(binaryFile).readIngredientBook()
+                .orElseThrow(() -> new NoSuchFileException(binaryFile.toString()));
+        new JsonIngredientBookStorage(jsonFile).saveIngredientBook(ingredientBook);
+    }
+
+    /**
+     * Converts the recipe book in the json file {@code jsonFile} into the binary snapshot {@code binaryFile}.
+     *
+     * @throws DataConversionException if {@code jsonFile} is not in the correct format.
+     * @throws IOException if {@code jsonFile} does not exist, or {@code binaryFile} could not be written.
+     */
+    public static void recipesToBinary(Path jsonFile, Path binaryFile) throws DataConversionException, IOException {
+        requireAllNonNull(jsonFile, binaryFile);
+        ReadOnlyRecipeBook recipeBook = new JsonRecipeBookStorage(jsonFile).readRecipeBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFile.toString()));
+        new BinaryRecipeBookStorage(binaryFile).saveRecipeBook(recipeBook);
+    }
+
+    /**
+     * Converts the recipe book in the binary snapshot {@code binaryFile} into the json file {@code jsonFile}.
+     *
+     * @throws DataConversionException if {@code binaryFile} is not in the correct format.
+     * @throws IOException if {@code binaryFile} does not exist, or {@code jsonFile} could not be written.
+     */
+    public static void recipesToJson(Path binaryFile, Path jsonFile) throws DataConversionException, IOException {
+        requireAllNonNull(binaryFile, jsonFile);
+        ReadOnlyRecipeBook recipeBook = new BinaryRecipeBookStorage(binaryFile).readRecipeBook()
+                .orElseThrow(() -> new NoSuchFileException(binaryFile.toString()));
+        new JsonRecipeBookStorage(jsonFile).saveRecipeBook(recipeBook);
+    }
+}
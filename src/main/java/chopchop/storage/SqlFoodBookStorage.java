@@ -0,0 +1,649 @@
+package chopchop.storage;
+
+import static chopchop.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.exceptions.IllegalValueException;
+import chopchop.commons.util.FileUtil;
+import chopchop.commons.util.WordMatcher;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.ingredient.exceptions.DuplicateIngredientException;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.model.recipe.exceptions.DuplicateRecipeException;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A class to access IngredientBook and RecipeBook data stored in an embedded H2 database on the hard disk.
+ *
+ * Besides reading and saving whole books, the database answers finds and filters itself and returns only the
+ * matching entries, so they can be answered without loading every entry into memory. The lowercased words of
+ * each name are kept in a table of their own, keyed by word, so a keyword search looks its words up in that
+ * index instead of scanning every name. Names, the names of recipe ingredients and expiry dates are indexed.
+ *
+ * Both books are kept in one database, in the file {@code filePath} with {@link #DATABASE_FILE_EXTENSION}
+ * appended. The database is opened, and its tables created, on the first call that needs it, and that one
+ * connection is then kept until {@link #close()}. Calls are serialised, so that a query never sees a save
+ * half done. Reading or saving a book at another path opens a connection just for that call.
+ */
+public class SqlFoodBookStorage implements IngredientBookStorage, RecipeBookStorage {
+
+    public static final String DATABASE_FILE_EXTENSION = ".mv.db";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS ingredients (entry_index INT PRIMARY KEY, name VARCHAR NOT NULL, "
+                + "quantity DOUBLE NOT NULL, expiry DATE NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS ingredients_name ON ingredients (name)",
+        "CREATE INDEX IF NOT EXISTS ingredients_expiry ON ingredients (expiry)",
+        "CREATE TABLE IF NOT EXISTS ingredient_words (word VARCHAR NOT NULL, entry_index INT NOT NULL, "
+                + "PRIMARY KEY (word, entry_index), FOREIGN KEY (entry_index) REFERENCES ingredients (entry_index))",
+        "CREATE TABLE IF NOT EXISTS recipes (id INT PRIMARY KEY, name VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS recipes_name ON recipes (name)",
+        "CREATE TABLE IF NOT EXISTS recipe_words (word VARCHAR NOT NULL, recipe_id INT NOT NULL, "
+                + "PRIMARY KEY (word, recipe_id), FOREIGN KEY (recipe_id) REFERENCES recipes (id))",
+        "CREATE TABLE IF NOT EXISTS recipe_ingredients (recipe_id INT NOT NULL, entry_index INT NOT NULL, "
+                + "name VARCHAR NOT NULL, quantity DOUBLE NOT NULL, expiry DATE NOT NULL, "
+                + "PRIMARY KEY (recipe_id, entry_index), FOREIGN KEY (recipe_id) REFERENCES recipes (id))",
+        "CREATE INDEX IF NOT EXISTS recipe_ingredients_name ON recipe_ingredients (name)",
+        "CREATE TABLE IF NOT EXISTS steps (recipe_id INT NOT NULL, entry_index INT NOT NULL, "
+                + "instruction VARCHAR NOT NULL, PRIMARY KEY (recipe_id, entry_index), "
+                + "FOREIGN KEY (recipe_id) REFERENCES recipes (id))"
+    };
+
+    private static final String MATCH_ALL = "TRUE";
+    private static final String MATCH_NONE = "FALSE";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlFoodBookStorage.class);
+
+    private Path filePath;
+
+    /** The connection to the database at {@code filePath}, or null if it has not been opened yet. */
+    private Connection connection;
+
+    public SqlFoodBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getIngredientBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getRecipeBookFilePath() {
+        return filePath;
+    }
+
+    // ================ IngredientBook methods ==============================
+
+    @Override
+    public Optional<ReadOnlyIngredientBook> readIngredientBook() throws DataConversionException {
+        return readIngredientBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readIngredientBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyIngredientBook> readIngredientBook(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!databaseExists(filePath)) {
+            logger.info("Database " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Connection connection = null;
+        try {
+            connection = connect(filePath);
+            IngredientBook ingredientBook = new IngredientBook();
+            ingredientBook.setFoodEntries(queryIngredients(connection, MATCH_ALL, Collections.emptyList(),
+                    "entry_index"));
+            return Optional.of(ingredientBook);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateIngredientException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(
+                    JsonIngredientBookStorage.MESSAGE_DUPLICATE_INGREDIENT, e));
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) throws IOException {
+        saveIngredientBook(ingredientBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveIngredientBook(ReadOnlyIngredientBook)}.
+     * Replaces the ingredients in the database in one transaction, leaving its recipes alone.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveIngredientBook(ReadOnlyIngredientBook ingredientBook, Path filePath)
+            throws IOException {
+        requireNonNull(ingredientBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Connection connection = null;
+        try {
+            connection = connect(filePath);
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM ingredient_words");
+                    statement.executeUpdate("DELETE FROM ingredients");
+                }
+                insertIngredients(connection, ingredientBook.getFoodEntryList());
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save ingredients to database " + filePath, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    private static void insertIngredients(Connection connection, List<Ingredient> ingredients) throws SQLException {
+        try (PreparedStatement insertIngredient = connection.prepareStatement("INSERT INTO ingredients "
+                + "(entry_index, name, quantity, expiry) VALUES (?, ?, ?, ?)");
+                PreparedStatement insertWord = connection.prepareStatement(
+                        "INSERT INTO ingredient_words (word, entry_index) VALUES (?, ?)")) {
+            int pendingRows = 0;
+            for (int index = 0; index < ingredients.size(); index++) {
+                Ingredient ingredient = ingredients.get(index);
+                insertIngredient.setInt(1, index);
+                insertIngredient.setString(2, ingredient.getName().fullName);
+                insertIngredient.setDouble(3, ingredient.getQuantity().value);
+                insertIngredient.setDate(4, Date.valueOf(ingredient.getExpiryDate().getDate()));
+                insertIngredient.addBatch();
+                pendingRows += 1 + addWords(insertWord, ingredient.getName(), index);
+
+                if (pendingRows >= BATCH_SIZE || index == ingredients.size() - 1) {
+                    // ingredients first, as their words refer to them
+                    insertIngredient.executeBatch();
+                    insertWord.executeBatch();
+                    pendingRows = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ingredients whose names contain any of {@code keywords} as a whole word, ignoring case,
+     * in the order they were saved. This finds the same ingredients as a
+     * {@link chopchop.model.attributes.NameContainsKeywordsPredicate}.
+     *
+     * @param keywords each keyword cannot be empty and must be a single word.
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    public synchronized List<Ingredient> findIngredients(List<String> keywords) throws DataConversionException {
+        requireAllNonNull(keywords);
+        List<Object> parameters = new ArrayList<>();
+        String condition = toKeywordCondition("entry_index", "ingredient_words", "entry_index", keywords,
+                parameters);
+        return queryIngredientsIfExists(condition, parameters, "entry_index");
+    }
+
+    /**
+     * Returns the ingredients that expire strictly before {@code date}, earliest first.
+     *
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    public synchronized List<Ingredient> findIngredientsExpiringBefore(LocalDate date)
+            throws DataConversionException {
+        requireNonNull(date);
+        return queryIngredientsIfExists("expiry < ?", Collections.singletonList(Date.valueOf(date)),
+                "expiry, entry_index");
+    }
+
+    private List<Ingredient> queryIngredientsIfExists(String condition, List<Object> parameters, String order)
+            throws DataConversionException {
+        if (!databaseExists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return queryIngredients(connect(filePath), condition, parameters, order);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static List<Ingredient> queryIngredients(Connection connection, String condition,
+            List<Object> parameters, String order) throws SQLException, IllegalValueException {
+        List<Ingredient> ingredients = new ArrayList<>();
+        try (PreparedStatement query = prepare(connection, "SELECT name, quantity, expiry FROM ingredients WHERE "
+                + condition + " ORDER BY " + order, parameters);
+                ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                ingredients.add(toIngredient(rows));
+            }
+        }
+        return ingredients;
+    }
+
+    // ================ RecipeBook methods ==============================
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException {
+        return readRecipeBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!databaseExists(filePath)) {
+            logger.info("Database " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Connection connection = null;
+        try {
+            connection = connect(filePath);
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setFoodEntries(queryRecipes(connection, MATCH_ALL, Collections.emptyList()));
+            return Optional.of(recipeBook);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(new IllegalValueException(
+                    JsonRecipeBookStorage.MESSAGE_DUPLICATE_RECIPE, e));
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     * Replaces the recipes in the database in one transaction, leaving its ingredients alone.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireNonNull(recipeBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Connection connection = null;
+        try {
+            connection = connect(filePath);
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM steps");
+                    statement.executeUpdate("DELETE FROM recipe_ingredients");
+                    statement.executeUpdate("DELETE FROM recipe_words");
+                    statement.executeUpdate("DELETE FROM recipes");
+                }
+                insertRecipes(connection, recipeBook.getFoodEntryList());
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save recipes to database " + filePath, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    private static void insertRecipes(Connection connection, List<Recipe> recipes) throws SQLException {
+        try (PreparedStatement insertRecipe = connection.prepareStatement(
+                "INSERT INTO recipes (id, name) VALUES (?, ?)");
+                PreparedStatement insertWord = connection.prepareStatement(
+                        "INSERT INTO recipe_words (word, recipe_id) VALUES (?, ?)");
+                PreparedStatement insertIngredient = connection.prepareStatement("INSERT INTO recipe_ingredients "
+                        + "(recipe_id, entry_index, name, quantity, expiry) VALUES (?, ?, ?, ?, ?)");
+                PreparedStatement insertStep = connection.prepareStatement(
+                        "INSERT INTO steps (recipe_id, entry_index, instruction) VALUES (?, ?, ?)")) {
+            int pendingRows = 0;
+            for (int id = 0; id < recipes.size(); id++) {
+                Recipe recipe = recipes.get(id);
+                insertRecipe.setInt(1, id);
+                insertRecipe.setString(2, recipe.getName().fullName);
+                insertRecipe.addBatch();
+                pendingRows += addWords(insertWord, recipe.getName(), id);
+
+                int index = 0;
+                for (Ingredient ingredient : recipe.getIngredients()) {
+                    insertIngredient.setInt(1, id);
+                    insertIngredient.setInt(2, index++);
+                    insertIngredient.setString(3, ingredient.getName().fullName);
+                    insertIngredient.setDouble(4, ingredient.getQuantity().value);
+                    insertIngredient.setDate(5, Date.valueOf(ingredient.getExpiryDate().getDate()));
+                    insertIngredient.addBatch();
+                }
+
+                index = 0;
+                for (Step step : recipe.getSteps()) {
+                    insertStep.setInt(1, id);
+                    insertStep.setInt(2, index++);
+                    insertStep.setString(3, step.step);
+                    insertStep.addBatch();
+                }
+
+                pendingRows += 1 + recipe.getIngredients().size() + recipe.getSteps().size();
+                if (pendingRows >= BATCH_SIZE || id == recipes.size() - 1) {
+                    // recipes first, as the others refer to them
+                    insertRecipe.executeBatch();
+                    insertWord.executeBatch();
+                    insertIngredient.executeBatch();
+                    insertStep.executeBatch();
+                    pendingRows = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the recipes whose names contain any of {@code keywords} as a whole word, ignoring case,
+     * in the order they were saved. This finds the same recipes as a
+     * {@link chopchop.model.attributes.NameContainsKeywordsPredicate}.
+     *
+     * @param keywords each keyword cannot be empty and must be a single word.
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    public synchronized List<Recipe> findRecipes(List<String> keywords) throws DataConversionException {
+        requireAllNonNull(keywords);
+        List<Object> parameters = new ArrayList<>();
+        String condition = toKeywordCondition("id", "recipe_words", "recipe_id", keywords, parameters);
+        return queryRecipesIfExists(condition, parameters);
+    }
+
+    /**
+     * Returns the recipes that use an ingredient named {@code ingredientName}, in the order they were saved.
+     *
+     * @throws DataConversionException if the database could not be read or holds invalid data.
+     */
+    public synchronized List<Recipe> findRecipesUsing(Name ingredientName) throws DataConversionException {
+        requireNonNull(ingredientName);
+        return queryRecipesIfExists("id IN (SELECT recipe_id FROM recipe_ingredients WHERE name = ?)",
+                Collections.singletonList(ingredientName.fullName));
+    }
+
+    private List<Recipe> queryRecipesIfExists(String condition, List<Object> parameters)
+            throws DataConversionException {
+        if (!databaseExists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return queryRecipes(connect(filePath), condition, parameters);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the recipes matching {@code condition}, reading their ingredients and steps with one query each
+     * rather than one per recipe.
+     */
+    private static List<Recipe> queryRecipes(Connection connection, String condition, List<Object> parameters)
+            throws SQLException, IllegalValueException {
+        Map<Integer, Name> names = new LinkedHashMap<>();
+        try (PreparedStatement query = prepare(connection,
+                "SELECT id, name FROM recipes WHERE " + condition + " ORDER BY id", parameters);
+                ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                names.put(rows.getInt("id"), toName(rows.getString("name")));
+            }
+        }
+
+        String matchingIds = "recipe_id IN (SELECT id FROM recipes WHERE " + condition + ")";
+        Map<Integer, Set<Ingredient>> ingredients = new HashMap<>();
+        try (PreparedStatement query = prepare(connection, "SELECT recipe_id, name, quantity, expiry "
+                + "FROM recipe_ingredients WHERE " + matchingIds + " ORDER BY recipe_id, entry_index", parameters);
+                ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                ingredients.computeIfAbsent(rows.getInt("recipe_id"), unused -> new HashSet<>())
+                        .add(toIngredient(rows));
+            }
+        }
+
+        Map<Integer, List<Step>> steps = new HashMap<>();
+        try (PreparedStatement query = prepare(connection, "SELECT recipe_id, instruction FROM steps WHERE "
+                + matchingIds + " ORDER BY recipe_id, entry_index", parameters);
+                ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                steps.computeIfAbsent(rows.getInt("recipe_id"), unused -> new ArrayList<>())
+                        .add(toStep(rows.getString("instruction")));
+            }
+        }
+
+        List<Recipe> recipes = new ArrayList<>(names.size());
+        for (Map.Entry<Integer, Name> entry : names.entrySet()) {
+            int id = entry.getKey();
+            recipes.add(new Recipe(entry.getValue(), ingredients.getOrDefault(id, Collections.emptySet()),
+                    steps.getOrDefault(id, Collections.emptyList())));
+        }
+        return recipes;
+    }
+
+    // ================ Database helpers ==============================
+
+    private static boolean databaseExists(Path filePath) {
+        return Files.exists(Paths.get(filePath + DATABASE_FILE_EXTENSION));
+    }
+
+    /**
+     * Returns a connection to the database {@code filePath}, creating it and its tables if they do not exist yet.
+     * The connection to this storage's own database is opened once and kept; any other is opened afresh and
+     * must be handed to {@link #release(Connection)} when done.
+     */
+    private Connection connect(Path filePath) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            return open(filePath);
+        }
+        if (connection == null) {
+            connection = open(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Closes {@code connection} if it was opened for a single call, leaving the kept connection open.
+     */
+    private void release(Connection connection) {
+        if (connection == null || connection == this.connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database connection: " + e);
+        }
+    }
+
+    /**
+     * Closes the connection to the database, if it is open. Later calls open it again.
+     */
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close database " + filePath, e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private static Connection open(Path filePath) throws SQLException {
+        // H2 only accepts file paths that are absolute or explicitly relative
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, List<Object> parameters)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+        return statement;
+    }
+
+    /**
+     * Adds a row to {@code insertWord}'s batch for each distinct word of {@code name}, belonging to the entry
+     * {@code id}, and returns the number of rows added.
+     */
+    private static int addWords(PreparedStatement insertWord, Name name, int id) throws SQLException {
+        Set<String> words = toSearchWords(name.fullName);
+        for (String word : words) {
+            insertWord.setString(1, word);
+            insertWord.setInt(2, id);
+            insertWord.addBatch();
+        }
+        return words.size();
+    }
+
+    /**
+     * Returns a condition matching the entries whose names contain any of {@code keywords} as a whole word,
+     * adding the values it needs to {@code parameters}. The words of each entry are looked up in
+     * {@code wordTable}, where {@code wordTableColumn} refers to the entry's {@code column}.
+     */
+    private static String toKeywordCondition(String column, String wordTable, String wordTableColumn,
+            List<String> keywords, List<Object> parameters) {
+        if (keywords.isEmpty()) {
+            return MATCH_NONE;
+        }
+
+        List<String> placeholders = new ArrayList<>();
+        for (String keyword : keywords) {
+            placeholders.add("?");
+            parameters.add(WordMatcher.prepareWord(keyword).toLowerCase(Locale.ROOT));
+        }
+        return column + " IN (SELECT " + wordTableColumn + " FROM " + wordTable + " WHERE word IN ("
+                + String.join(", ", placeholders) + "))";
+    }
+
+    /**
+     * Returns the distinct words of {@code name} in lower case, in the order they first appear.
+     */
+    static Set<String> toSearchWords(String name) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : name.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Ingredient toIngredient(ResultSet row) throws SQLException, IllegalValueException {
+        Name name = toName(row.getString("name"));
+        double quantity = row.getDouble("quantity");
+        if (!Quantity.isValidQuantity(quantity)) {
+            throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+        LocalDate expiry = row.getDate("expiry").toLocalDate();
+        return new Ingredient(name, new Quantity(quantity), ExpiryDate.of(expiry));
+    }
+
+    private static Name toName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return Name.of(name);
+    }
+
+    private static Step toStep(String step) throws IllegalValueException {
+        if (!Step.isValidStep(step)) {
+            throw new IllegalValueException(Step.MESSAGE_CONSTRAINTS);
+        }
+        return Step.of(step);
+    }
+}
@@ -2,21 +2,30 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ * The parameters that JavaFX gives the GUI application are parsed by {@link FxAppParameters}, so that this class
+ * can be used without JavaFX.
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_START = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private boolean isHeadless;
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,11 +36,69 @@ public class AppParameters {
     }
 
     /**
-     * Parses the application command-line parameters.
+     * Returns true if the application should run without its GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the script that the headless application reads commands from, or null if it reads them from
+     * standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port that the GUI application serves its API on, or null if it does not serve the API.
+     *
+     * @see chopchop.server.ApiServer
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Parses the application command-line parameters as given to {@code main}, without starting JavaFX.
+     * Parameters are named as JavaFX names them, by {@code --name=value}, except that a parameter without a value,
+     * such as {@code --headless}, is named too.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(NAMED_PARAMETER_START)) {
+                continue;
+            }
+
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (separatorIndex == -1) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length()), "");
+            } else {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), separatorIndex),
+                        arg.substring(separatorIndex + NAMED_PARAMETER_SEPARATOR.length()));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Parses the application command-line parameters, given by name.
+     */
+    static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +107,34 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        appParameters.setHeadless(namedParameters.containsKey("headless"));
+
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Reading commands from standard input.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". Not serving the API.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int value = Integer.parseInt(port);
+            return value > 0 && value <= MAX_PORT;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +146,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, scriptPath, apiPort);
     }
 }
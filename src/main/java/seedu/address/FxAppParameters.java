@@ -0,0 +1,21 @@
+package seedu.address;
+
+import javafx.application.Application;
+
+/**
+ * Reads {@link AppParameters} from the parameters that JavaFX gives an {@code Application}.
+ *
+ * This is kept apart from {@code AppParameters} so that the headless application, which parses the arguments
+ * given to {@code main} instead, never needs JavaFX.
+ */
+public class FxAppParameters {
+
+    private FxAppParameters() {}
+
+    /**
+     * Parses the application command-line parameters.
+     */
+    public static AppParameters parse(Application.Parameters parameters) {
+        return AppParameters.parse(parameters.getNamed());
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its GUI, for use from cron jobs and shell pipelines.
+ *
+ * Commands are read one per line from a script, or from standard input if there is none, and the feedback of each
+ * is printed to standard output, or to standard error if the command failed. JavaFX is never started.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_STATUS_SUCCESS = 0;
+    public static final int EXIT_STATUS_FAILURE = 1;
+
+    public static final String MESSAGE_CANNOT_READ_COMMANDS = "Could not read commands: ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, and prints their feedback to
+     * {@code out}, or to {@code err} for those that failed.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireAllNonNull(logic, out, err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Starts the application as given by {@code appParameters}, runs the commands it reads, and stops it again.
+     *
+     * Changes are written in the background, so a command can succeed even though its changes are not saved;
+     * the application fails if any write fails, including the last one, made when the application is stopped.
+     *
+     * @return {@link #EXIT_STATUS_SUCCESS} if every command succeeded and every change was saved, or
+     *     {@link #EXIT_STATUS_FAILURE} otherwise.
+     */
+    public static int launch(AppParameters appParameters) {
+        requireNonNull(appParameters);
+        logger.info("=============================[ Initializing AddressBook headless ]==================");
+
+        AppInitializer appInitializer = new AppInitializer(appParameters);
+        AtomicBoolean hasSaveFailed = new AtomicBoolean();
+        appInitializer.getStorage().setSaveFailureHandler(e -> {
+            hasSaveFailed.set(true);
+            System.err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + e);
+        });
+        HeadlessApp app = new HeadlessApp(appInitializer.getLogic(), System.out, System.err);
+
+        int exitStatus;
+        try (BufferedReader input = openInput(appParameters.getScriptPath())) {
+            exitStatus = app.run(input);
+        } catch (IOException ioe) {
+            System.err.println(MESSAGE_CANNOT_READ_COMMANDS + ioe);
+            exitStatus = EXIT_STATUS_FAILURE;
+        }
+
+        logger.info("============================ [ Stopping Address Book ] =============================");
+        if (!appInitializer.stop() || hasSaveFailed.get()) {
+            exitStatus = EXIT_STATUS_FAILURE;
+        }
+        return exitStatus;
+    }
+
+    private static BufferedReader openInput(Path scriptPath) throws IOException {
+        if (scriptPath == null) {
+            return new BufferedReader(new InputStreamReader(System.in));
+        }
+        return Files.newBufferedReader(scriptPath);
+    }
+
+    /**
+     * Executes each line of {@code input} as a command, until the input ends or a command asks to exit.
+     * Blank lines are skipped, and a failed command does not stop the commands after it.
+     *
+     * @return {@link #EXIT_STATUS_SUCCESS} if every command succeeded, or {@link #EXIT_STATUS_FAILURE} otherwise.
+     * @throws IOException if {@code input} cannot be read.
+     */
+    public int run(BufferedReader input) throws IOException {
+        requireNonNull(input);
+        int exitStatus = EXIT_STATUS_SUCCESS;
+
+        String commandText;
+        while ((commandText = input.readLine()) != null) {
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                exitStatus = EXIT_STATUS_FAILURE;
+            }
+        }
+
+        return exitStatus;
+    }
+}
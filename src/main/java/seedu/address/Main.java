@@ -1,7 +1,5 @@
 package seedu.address;
 
-import javafx.application.Application;
-
 /**
  * The main entry point to the application.
  *
@@ -17,9 +15,17 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also runs the application without its GUI when given {@code --headless}, in which case JavaFX is never
+ * started and its application classes are never loaded. See {@link HeadlessApp}.
  */
 public class Main {
     public static void main(String[] args) {
-        Application.launch(MainApp.class, args);
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.launch(appParameters));
+        }
+
+        MainApp.launchGui(args);
     }
 }
@@ -9,5 +9,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_INVALID_SCRIPT_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT = "%1$s cannot be used in a script";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script %1$s";
 
 }
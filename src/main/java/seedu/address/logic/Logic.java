@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single change and returns the result. All the commands are parsed before any of
+     * them is executed, and if any of them fails, none of their changes are kept. The address book is saved once,
+     * after the last of them.
+     * @param commandTexts The commands, one per line, as they would be entered by the user.
+     * @return the result of executing all the commands.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during the parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
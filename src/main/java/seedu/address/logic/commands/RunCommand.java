@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs several commands, such as the lines of a script, as a single change to the address book.
+ *
+ * If any of the commands fails, the address book is restored to what it was before the first of them ran, and to
+ * the same version, so a failed run does not count as a change. Updates to the filter of the displayed person list
+ * are held back until all the commands have run, so indexes given to the commands refer to the list as it was
+ * displayed before them. The results of the single commands are not shown, so commands such as exit and help,
+ * whose result is their only effect, are not run this way, and neither are find and list, whose filter would only
+ * be shown after the commands that were meant to use it.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, as a single change. Blank lines and lines starting "
+            + "with # are skipped. If any of the commands fails, none of them are applied.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " delivery.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a {@code RunCommand} that runs {@code commands} in order. {@code lineNumbers} are the lines of the
+     * script that the commands were parsed from, and are used to report which of them failed.
+     */
+    public RunCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, lineNumbers);
+        assert commands.size() == lineNumbers.size() : "Every command needs a line number";
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBookBefore = new AddressBook(model.getAddressBook());
+        long versionBefore = model.getAddressBookVersion();
+
+        model.deferFilterUpdates();
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                CommandResult result;
+                try {
+                    result = commands.get(i).execute(model);
+                } catch (CommandException ce) {
+                    String message = String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i), ce.getMessage());
+                    throw new CommandException(message, ce);
+                }
+                assert !result.isExit() && !result.isShowHelp() : "Scripts cannot exit or show help";
+            }
+            isCompleted = true;
+        } finally {
+            // also undoes the commands that ran before one that failed unexpectedly
+            if (!isCompleted) {
+                model.restoreAddressBook(addressBookBefore, versionBefore);
+                model.discardDeferredFilterUpdates();
+            }
+        }
+        model.applyDeferredFilterUpdates();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && commands.equals(((RunCommand) other).commands)
+                && lineNumbers.equals(((RunCommand) other).lineNumbers)); // state check
+    }
+}
@@ -1,8 +1,13 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.core.Messages.MESSAGE_COMMAND_NOT_IN_SCRIPT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SCRIPT_LINE;
+import static seedu.address.commons.core.Messages.MESSAGE_NESTED_SCRIPT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,6 +20,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -27,6 +33,11 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * Lines of a script that start with this are comments.
+     */
+    private static final String SCRIPT_COMMENT = "#";
+
     /**
      * Parses user input into command for execution.
      *
@@ -68,9 +79,59 @@ public class AddressBookParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this).parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses the lines of a script into a single command that runs them all, so that every line is checked before
+     * any of them is run. Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param lines the lines of the script, the first of which is line 1
+     * @return the command that runs the lines in order
+     * @throws ParseException if any line does not conform the expected format, runs another script, or is a
+     *     command such as exit, help, find or list whose result only makes sense on its own
+     */
+    public RunCommand parseScript(List<String> lines) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            int lineNumber = i + 1;
+            if (line.isEmpty() || line.startsWith(SCRIPT_COMMENT)) {
+                continue;
+            }
+
+            // checked before parsing, as parsing a run command reads the file it names
+            Matcher matcher = BASIC_COMMAND_FORMAT.matcher(line);
+            if (matcher.matches() && matcher.group("commandWord").equals(RunCommand.COMMAND_WORD)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_LINE, lineNumber, MESSAGE_NESTED_SCRIPT));
+            }
+
+            Command command;
+            try {
+                command = parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_LINE, lineNumber, pe.getMessage()), pe);
+            }
+
+            // a script only reports how many commands it ran, so asking to exit or show help would be lost, and
+            // the displayed list is only filtered after the script, so a find or list would not change what the
+            // indexes of the commands after it refer to
+            if (command instanceof ExitCommand || command instanceof HelpCommand
+                    || command instanceof FindCommand || command instanceof ListCommand) {
+                String message = String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, matcher.group("commandWord"));
+                throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_LINE, lineNumber, message));
+            }
+            commands.add(command);
+            lineNumbers.add(lineNumber);
+        }
+
+        return new RunCommand(commands, lineNumbers);
+    }
 }
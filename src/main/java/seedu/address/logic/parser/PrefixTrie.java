@@ -0,0 +1,107 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A set of prefixes compiled into a trie, which finds every prefix in an arguments string in a single scan.
+ *
+ * Prefixes are only recognised right after a space, so the scan only walks the trie from those positions, and
+ * each walk is no longer than the longest prefix. Tokenizing therefore takes time proportional to the length of
+ * the arguments string, however many prefixes there are and however often they are repeated.
+ */
+class PrefixTrie {
+
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private final Node root = new Node();
+
+    /**
+     * Compiles {@code prefixes} into a trie. Repeated prefixes are only recognised once.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            Node node = root;
+            for (char c : prefix.getPrefix().toCharArray()) {
+                node = node.getOrAddChild(c);
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} as described in {@link ArgumentTokenizer}. Where more than one prefix starts
+     * at the same position, the longest of them is taken.
+     */
+    ArgumentMultimap tokenize(String argsString) {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+
+        for (int i = 1; i <= argsString.length(); i++) {
+            if (i < valueStart || argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+
+            Prefix prefix = findLongestPrefixAt(argsString, i);
+            if (prefix != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStart, i).trim());
+                currentPrefix = prefix;
+                valueStart = i + prefix.getPrefix().length();
+            }
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
+
+        return argMultimap;
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code position}, or null if there is none.
+     */
+    private Prefix findLongestPrefixAt(String argsString, int position) {
+        Node node = root;
+        Prefix longest = root.prefix;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longest = node.prefix;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * A node of the trie. Prefixes are short and share few characters, so the children of a node are kept in
+     * small parallel arrays and searched one by one, which is faster than hashing a boxed character.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char c) {
+            Node child = getChild(c);
+            if (child != null) {
+                return child;
+            }
+
+            child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+}
@@ -16,6 +16,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Number of changes made so far; see {@link #getVersion()}. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -56,6 +60,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Resets the existing data of this {@code AddressBook} with {@code oldData}, which must be what this address
+     * book held when its version was {@code oldVersion}, and returns it to that version.
+     * Undoing changes this way does not count as a change.
+     */
+    public void restoreData(ReadOnlyAddressBook oldData, long oldVersion) {
+        resetData(oldData);
+        version = oldVersion;
+    }
+
     //// person-level operations
 
     /**
@@ -72,6 +86,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -83,6 +98,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -91,6 +107,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns a number that changes every time this address book is changed, and only then.
+     * Two equal versions of the same address book mean that it has not been changed in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -49,9 +49,21 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook}, which must be what the address book held
+     * at {@code version}, and returns the address book to that version.
+     */
+    void restoreAddressBook(ReadOnlyAddressBook addressBook, long version);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever the address book is changed.
+     * Commands that only read the address book leave it unchanged.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -84,4 +96,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Holds back updates to the filter of the filtered person list, including those made by adding a person, until
+     * {@link #applyDeferredFilterUpdates()} or {@link #discardDeferredFilterUpdates()} is called.
+     */
+    void deferFilterUpdates();
+
+    /**
+     * Stops holding back updates to the filter of the filtered person list, and applies the last of those held back.
+     */
+    void applyDeferredFilterUpdates();
+
+    /**
+     * Stops holding back updates to the filter of the filtered person list, and drops those held back.
+     */
+    void discardDeferredFilterUpdates();
 }
@@ -23,6 +23,10 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
+    private boolean isFilterUpdateDeferred;
+    /** The last filter given while filter updates were deferred, or null if none was given. */
+    private Predicate<Person> deferredPredicate;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -83,11 +87,22 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void restoreAddressBook(ReadOnlyAddressBook addressBook, long version) {
+        requireNonNull(addressBook);
+        this.addressBook.restoreData(addressBook, version);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -126,9 +141,33 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isFilterUpdateDeferred) {
+            deferredPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void deferFilterUpdates() {
+        isFilterUpdateDeferred = true;
+    }
+
+    @Override
+    public void applyDeferredFilterUpdates() {
+        Predicate<Person> predicate = deferredPredicate;
+        discardDeferredFilterUpdates();
+        if (predicate != null) {
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void discardDeferredFilterUpdates() {
+        isFilterUpdateDeferred = false;
+        deferredPredicate = null;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -125,11 +128,14 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // two persons are the same if they share a name and either a phone or an email, so it is enough to
+        // look for a repeated (name, phone) or (name, email) pair, which takes one pass instead of comparing pairs
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : persons) {
+            boolean isNewPhone = identities.add(Arrays.asList(person.getName(), person.getPhone()));
+            boolean isNewEmail = identities.add(Arrays.asList(person.getName(), person.getEmail()));
+            if (!isNewPhone || !isNewEmail) {
+                return false;
             }
         }
         return true;
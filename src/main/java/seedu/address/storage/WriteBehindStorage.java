@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book in the background instead of on the caller's thread.
+ *
+ * Each save takes a snapshot of the address book and returns immediately. The snapshot is written by a
+ * background thread after a short delay, and any saves made in the meantime replace it, so a burst of
+ * changes results in a single write of the latest data. Failures of background writes cannot be thrown to
+ * the caller, so they are passed to the handler set with {@link #setSaveFailureHandler(Consumer)} instead.
+ * A snapshot that failed to be written is kept, unless a newer one has replaced it, and its write is retried
+ * after {@link #RETRY_DELAY_MILLIS}, and by every later {@link #flush()} or {@link #close()}, until it succeeds.
+ *
+ * Everything else is passed straight through to the wrapped storage. {@link #close()} must be called before
+ * exiting, or the latest changes may not be written.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final long DEFAULT_WRITE_DELAY_MILLIS = 200;
+    public static final long RETRY_DELAY_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long writeDelayMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Held while writing, so that only one write happens at a time and none overtakes a newer one. */
+    private final Object writeLock = new Object();
+
+    // the latest snapshot not yet written, guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingFilePath;
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage} after the default delay.
+     */
+    public WriteBehindStorage(Storage storage) {
+        this(storage, DEFAULT_WRITE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage} {@code writeDelayMillis}
+     * milliseconds after the first of a burst of saves.
+     */
+    public WriteBehindStorage(Storage storage, long writeDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writeDelayMillis = writeDelayMillis;
+    }
+
+    /**
+     * Sets the handler to be told about background writes that failed. It is called on the writer thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book after writing out any pending save, so that the result reflects every save.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath}, replacing any snapshot that
+     * is still waiting to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        boolean isWriteScheduled;
+        synchronized (this) {
+            isWriteScheduled = pendingAddressBook != null;
+            pendingAddressBook = snapshot;
+            pendingFilePath = filePath;
+        }
+        if (!isWriteScheduled) {
+            writer.schedule(this::writeInBackground, writeDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes out the pending snapshot, if any, on the caller's thread.
+     *
+     * @throws IOException if the write failed, in which case the snapshot is still pending.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            Path filePath;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                filePath = pendingFilePath;
+                // cleared before writing, so that saves made during the write schedule a write of their own
+                pendingAddressBook = null;
+                pendingFilePath = null;
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            try {
+                storage.saveAddressBook(addressBook, filePath);
+            } catch (IOException | RuntimeException e) {
+                restorePending(addressBook, filePath);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Makes {@code addressBook}, whose write failed, the pending snapshot again and schedules a retry, unless a
+     * newer snapshot has been saved since, which then has a write scheduled already.
+     */
+    private void restorePending(ReadOnlyAddressBook addressBook, Path filePath) {
+        synchronized (this) {
+            if (pendingAddressBook != null) {
+                return;
+            }
+            pendingAddressBook = addressBook;
+            pendingFilePath = filePath;
+        }
+
+        try {
+            writer.schedule(this::writeInBackground, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // closing; the snapshot is left for the final flush, which waits for the write lock held here
+            logger.fine("Not retrying the failed write, as the writer has stopped");
+        }
+    }
+
+    /**
+     * Writes out the pending snapshot, if any, and stops the background writer.
+     * If the final write fails, the snapshot is kept, so that calling this again retries it.
+     *
+     * @throws IOException if the final write failed.
+     */
+    public void close() throws IOException {
+        writer.shutdown();
+        flush();
+    }
+
+    private void writeInBackground() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Could not save address book in the background: " + e);
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons of an address book at one point in time.
+     * Persons are immutable, so copying the list is enough to keep later changes out of the snapshot.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -163,6 +163,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedback} in the result display, as if it were the result of a command.
+     */
+    void showFeedbackToUser(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
@@ -10,4 +10,9 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Tells the user that saving their data failed. Can be called from any thread.
+     */
+    void showSaveFailure(String message);
+
 }
@@ -51,6 +51,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        logger.warning(message);
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedbackToUser(message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
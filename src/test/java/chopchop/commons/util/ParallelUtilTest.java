@@ -0,0 +1,66 @@
+package chopchop.commons.util;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.exceptions.IllegalValueException;
+
+public class ParallelUtilTest {
+
+    private static final int LARGE_SIZE = ParallelUtil.SEQUENTIAL_THRESHOLD * 20 + 7;
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static String convert(int value) throws IllegalValueException {
+        if (value % 1000 == 999) {
+            throw new IllegalValueException("Invalid " + value);
+        }
+        return Integer.toString(value);
+    }
+
+    @Test
+    public void convertAll_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelUtil.convertAll(null, Object::toString));
+        assertThrows(NullPointerException.class, () -> ParallelUtil.convertAll(range(1), null));
+    }
+
+    @Test
+    public void convertAll_smallAndLargeLists_convertedInOrder() throws Exception {
+        for (int size : new int[] {0, 1, ParallelUtil.SEQUENTIAL_THRESHOLD + 1, LARGE_SIZE}) {
+            List<Integer> sources = range(size);
+            List<String> expected = sources.stream().map(String::valueOf).collect(Collectors.toList());
+            assertEquals(expected, ParallelUtil.convertAll(sources, String::valueOf));
+        }
+    }
+
+    @Test
+    public void convertAll_manyInvalidEntries_throwsForFirstInvalidEntry() {
+        // every thousandth entry is invalid, in ranges converted on different threads
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, "Invalid 999", () ->
+                    ParallelUtil.convertAll(range(LARGE_SIZE), ParallelUtilTest::convert));
+        }
+    }
+
+    @Test
+    public void chunkedConversion_entriesAddedOneAtATime_convertedInOrder() throws Exception {
+        ParallelUtil.ChunkedConversion<Integer, String> conversion =
+                new ParallelUtil.ChunkedConversion<>(String::valueOf);
+        List<Integer> sources = range(LARGE_SIZE);
+        sources.forEach(conversion::add);
+        assertEquals(sources.stream().map(String::valueOf).collect(Collectors.toList()), conversion.getResults());
+    }
+
+    @Test
+    public void chunkedConversion_invalidEntry_throwsForFirstInvalidEntry() {
+        ParallelUtil.ChunkedConversion<Integer, String> conversion =
+                new ParallelUtil.ChunkedConversion<>(ParallelUtilTest::convert);
+        range(LARGE_SIZE).forEach(conversion::add);
+        assertThrows(IllegalValueException.class, "Invalid 999", conversion::getResults);
+    }
+}
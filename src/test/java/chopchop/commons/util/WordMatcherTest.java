@@ -0,0 +1,59 @@
+package chopchop.commons.util;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class WordMatcherTest {
+
+    @Test
+    public void constructor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher(null));
+    }
+
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () ->
+            new WordMatcher(Arrays.asList("apricot", "  ")));
+    }
+
+    @Test
+    public void constructor_multipleWordsInKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", () ->
+            new WordMatcher(Collections.singletonList("apricot jam")));
+    }
+
+    @Test
+    public void matchesAnyWord_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new WordMatcher(Collections.singletonList("apricot")).matchesAnyWord(null));
+    }
+
+    @Test
+    public void matchesAnyWord_validInputs_correctResult() {
+        WordMatcher matcher = new WordMatcher(Arrays.asList(" aPRIcot ", "jam"));
+
+        // empty and blank sentences
+        assertFalse(matcher.matchesAnyWord(""));
+        assertFalse(matcher.matchesAnyWord(" \t\n "));
+
+        // keyword is only part of a word
+        assertFalse(matcher.matchesAnyWord("apricots"));
+        assertFalse(matcher.matchesAnyWord("jams and jellies"));
+        assertFalse(matcher.matchesAnyWord("ap ricot"));
+
+        // keyword matches a whole word, ignoring case and surrounding whitespace
+        assertTrue(matcher.matchesAnyWord("Apricot"));
+        assertTrue(matcher.matchesAnyWord("  dried\tAPRICOT  "));
+        assertTrue(matcher.matchesAnyWord("strawberry jam"));
+        assertTrue(matcher.matchesAnyWord("apricot jam"));
+    }
+
+    @Test
+    public void matchesAnyWord_noKeywords_returnsFalse() {
+        assertFalse(new WordMatcher(Collections.emptyList()).matchesAnyWord("apricot"));
+    }
+}
@@ -0,0 +1,147 @@
+package chopchop.logic;
+
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_SCRIPT_LINE;
+import static chopchop.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static chopchop.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.commands.AddRecipeCommand;
+import chopchop.logic.commands.DeleteIngredientCommand;
+import chopchop.logic.commands.ListIngredientCommand;
+import chopchop.logic.commands.RunCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.storage.JsonIngredientBookStorage;
+import chopchop.storage.JsonRecipeBookStorage;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.testutil.IngredientBuilder;
+import chopchop.testutil.IngredientUtil;
+import chopchop.testutil.RecipeBuilder;
+
+public class LogicManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private CountingIngredientBookStorage ingredientBookStorage;
+    private CountingRecipeBookStorage recipeBookStorage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalRecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+        ingredientBookStorage = new CountingIngredientBookStorage(testFolder.resolve("ingredients.json"));
+        recipeBookStorage = new CountingRecipeBookStorage(testFolder.resolve("recipes.json"));
+        logic = new LogicManager(model, ingredientBookStorage, recipeBookStorage);
+    }
+
+    @Test
+    public void execute_firstCommand_bothBooksSaved() throws Exception {
+        logic.execute(new ListIngredientCommand());
+        assertEquals(1, ingredientBookStorage.saveCount);
+        assertEquals(1, recipeBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        logic.execute(new ListIngredientCommand());
+        logic.execute(new ListIngredientCommand());
+        assertEquals(1, ingredientBookStorage.saveCount);
+        assertEquals(1, recipeBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_commandChangesOneBook_onlyThatBookSaved() throws Exception {
+        logic.execute(new ListIngredientCommand());
+
+        logic.execute(new AddIngredientCommand(new IngredientBuilder().withName("Cherry").build()));
+        assertEquals(2, ingredientBookStorage.saveCount);
+        assertEquals(1, recipeBookStorage.saveCount);
+
+        logic.execute(new AddRecipeCommand(new RecipeBuilder().withName("Cherry Pie").build()));
+        assertEquals(2, ingredientBookStorage.saveCount);
+        assertEquals(2, recipeBookStorage.saveCount);
+    }
+
+    @Test
+    public void executeBatch_validCommands_eachBookSavedOnce() throws Exception {
+        logic.execute(new ListIngredientCommand());
+        Ingredient cherry = new IngredientBuilder().withName("Cherry").build();
+        Ingredient durian = new IngredientBuilder().withName("Durian").build();
+        List<String> commandTexts = Arrays.asList(IngredientUtil.getAddCommand(cherry),
+                IngredientUtil.getAddCommand(durian));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2),
+                logic.executeBatch(commandTexts).getFeedbackToUser());
+        assertEquals(2, ingredientBookStorage.saveCount);
+        assertEquals(1, recipeBookStorage.saveCount);
+
+        IngredientBook expectedIngredients = getTypicalIngredientBook();
+        expectedIngredients.addIngredient(cherry);
+        expectedIngredients.addIngredient(durian);
+        assertEquals(expectedIngredients, model.getIngredientBook());
+    }
+
+    @Test
+    public void executeBatch_invalidCommand_nothingExecuted() throws Exception {
+        logic.execute(new ListIngredientCommand());
+        List<String> commandTexts = Arrays.asList(DeleteIngredientCommand.COMMAND_WORD + " 1", "unknownCommand");
+
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 2, MESSAGE_UNKNOWN_COMMAND), ()
+            -> logic.executeBatch(commandTexts));
+        assertEquals(getTypicalIngredientBook(), model.getIngredientBook());
+        assertEquals(1, ingredientBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_runScript_success() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList("# out of stock", DeleteIngredientCommand.COMMAND_WORD + " 1"));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 1),
+                logic.execute(RunCommand.COMMAND_WORD + " " + script).getFeedbackToUser());
+        assertEquals(getTypicalIngredientBook().getFoodEntryList().subList(1, 2),
+                model.getIngredientBook().getFoodEntryList());
+    }
+
+    private static class CountingIngredientBookStorage extends JsonIngredientBookStorage {
+        private int saveCount = 0;
+
+        CountingIngredientBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) {
+            saveCount++;
+        }
+    }
+
+    private static class CountingRecipeBookStorage extends JsonRecipeBookStorage {
+        private int saveCount = 0;
+
+        CountingRecipeBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) {
+            saveCount++;
+        }
+    }
+}
@@ -1,4 +1,63 @@
 package chopchop.logic.commands;
 
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.Messages;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.recipe.RecipeBook;
+
 public class FilterIngredientCommandTest {
+
+    private final Model model = new ModelManager(new RecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_rangeIsInclusive() throws Exception {
+        CommandResult result = new FilterIngredientCommand(APRICOT.getExpiryDate(), BANANA.getExpiryDate())
+            .execute(model);
+        assertEquals(String.format(Messages.MESSAGE_INGREDIENT_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(APRICOT, BANANA), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_rangeContainingOneDate_showsOnlyThatIngredient() throws Exception {
+        new FilterIngredientCommand(new ExpiryDate("2021-01-01"), new ExpiryDate("2021-12-31")).execute(model);
+        assertEquals(Collections.singletonList(BANANA), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_listAfterFilter_showsEverythingAgain() throws Exception {
+        new FilterIngredientCommand(new ExpiryDate("2021-01-01"), new ExpiryDate("2021-12-31")).execute(model);
+        new ListIngredientCommand().execute(model);
+        assertEquals(Arrays.asList(APRICOT, BANANA), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() {
+        FilterIngredientCommand command = new FilterIngredientCommand(BANANA.getExpiryDate(), APRICOT.getExpiryDate());
+        assertThrows(CommandException.class, String.format(FilterIngredientCommand.MESSAGE_INVALID_RANGE,
+            BANANA.getExpiryDate(), APRICOT.getExpiryDate()), () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExpiryDate from = new ExpiryDate("2020-10-01");
+        ExpiryDate to = new ExpiryDate("2020-10-31");
+        FilterIngredientCommand command = new FilterIngredientCommand(from, to);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FilterIngredientCommand(new ExpiryDate("2020-10-01"), to)));
+        assertFalse(command.equals(new FilterIngredientCommand(from, from)));
+        assertFalse(command.equals(null));
+    }
 }
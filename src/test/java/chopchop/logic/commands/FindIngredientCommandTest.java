@@ -1,4 +1,55 @@
 package chopchop.logic.commands;
 
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.Messages;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.attributes.NameContainsKeywordsPredicate;
+
 public class FindIngredientCommandTest {
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_noMatches_showsNothing() {
+        FindIngredientCommand command = new FindIngredientCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("garlic")));
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(Messages.MESSAGE_INGREDIENT_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_matchingKeyword_showsMatchingIngredientsOnly() {
+        int recipeCount = model.getFilteredRecipeList().size();
+        FindIngredientCommand command = new FindIngredientCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("APRICOT", "durian")));
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(Messages.MESSAGE_INGREDIENT_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(APRICOT), model.getFilteredIngredientList());
+
+        // the recipes shown are left alone
+        assertEquals(recipeCount, model.getFilteredRecipeList().size());
+    }
+
+    @Test
+    public void equals() {
+        FindIngredientCommand command = new FindIngredientCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("apricot")));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindIngredientCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("apricot")))));
+        assertFalse(command.equals(new FindIngredientCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("banana")))));
+        assertFalse(command.equals(null));
+    }
 }
@@ -0,0 +1,51 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.Messages;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+
+public class FindRecipeCommandTest {
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_noMatches_showsNothing() {
+        CommandResult result = new FindRecipeCommand(Arrays.asList("garlic")).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_showsBestMatchesFirst() {
+        CommandResult result = new FindRecipeCommand(Arrays.asList("toss", "apricot")).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(FRUIT_SALAD, APRICOT_JAM), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void execute_recipeDeletedAfterwards_removedFromDisplayedList() {
+        new FindRecipeCommand(Arrays.asList("apricot")).execute(model);
+        model.deleteRecipe(APRICOT_JAM);
+        assertEquals(Collections.singletonList(FRUIT_SALAD), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void equals() {
+        FindRecipeCommand command = new FindRecipeCommand(Arrays.asList("jam"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindRecipeCommand(Arrays.asList("jam"))));
+        assertFalse(command.equals(new FindRecipeCommand(Arrays.asList("salad"))));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,29 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.index.Index;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.recipe.RecipeBook;
+
+public class HistoryCommandTest {
+
+    private final Model model = new ModelManager(new RecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_noHistory() {
+        assertEquals(HistoryCommand.MESSAGE_NO_HISTORY, new HistoryCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_someChanges_numberedOldestFirst() throws Exception {
+        String first = new DeleteIngredientCommand(Index.fromOneBased(2)).execute(model).getFeedbackToUser();
+        String second = new DeleteIngredientCommand(Index.fromOneBased(1)).execute(model).getFeedbackToUser();
+
+        assertEquals(HistoryCommand.MESSAGE_SUCCESS + "\n1. " + first + "\n2. " + second,
+            new HistoryCommand().execute(model).getFeedbackToUser());
+    }
+}
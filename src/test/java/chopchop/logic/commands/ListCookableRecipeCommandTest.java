@@ -0,0 +1,51 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.testutil.IngredientBookBuilder;
+
+public class ListCookableRecipeCommandTest {
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(),
+        new IngredientBookBuilder().withIngredient(APRICOT).build(), new UserPrefs());
+
+    @Test
+    public void constructor_negativeMaxMissing_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListCookableRecipeCommand(-1));
+    }
+
+    @Test
+    public void execute_onlyCookable_showsCookableRecipes() {
+        CommandResult result = new ListCookableRecipeCommand(0).execute(model);
+        assertEquals(String.format(ListCookableRecipeCommand.MESSAGE_SUCCESS, 1, 0, 0), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(APRICOT_JAM), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void execute_defaultMaxMissing_showsNearlyCookableRecipes() {
+        CommandResult result = new ListCookableRecipeCommand().execute(model);
+        assertEquals(String.format(ListCookableRecipeCommand.MESSAGE_SUCCESS, 1, 1, 1), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(APRICOT_JAM, FRUIT_SALAD), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void equals() {
+        ListCookableRecipeCommand command = new ListCookableRecipeCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ListCookableRecipeCommand(ListCookableRecipeCommand.DEFAULT_MAX_MISSING)));
+        assertFalse(command.equals(new ListCookableRecipeCommand(2)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -1,4 +1,60 @@
 package chopchop.logic.commands;
 
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.recipe.RecipeBook;
+
 public class ListExpiringIngredientCommandTest {
+
+    private final Model model = new ModelManager(new RecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_dateBeforeEverything_showsNothing() {
+        CommandResult result = new ListExpiringIngredientCommand(new ExpiryDate("2020-01-01")).execute(model);
+        assertEquals(String.format(ListExpiringIngredientCommand.MESSAGE_SUCCESS, 0, "2020-01-01"),
+            result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_dateIsExclusive() {
+        new ListExpiringIngredientCommand(APRICOT.getExpiryDate()).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredIngredientList());
+
+        new ListExpiringIngredientCommand(new ExpiryDate("2020-12-02")).execute(model);
+        assertEquals(Collections.singletonList(APRICOT), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_dateAfterEverything_showsAllEarliestFirst() {
+        new ListExpiringIngredientCommand(new ExpiryDate("2030-01-01")).execute(model);
+        assertEquals(Arrays.asList(APRICOT, BANANA), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void execute_ingredientDeletedAfterwards_removedFromDisplayedList() {
+        new ListExpiringIngredientCommand(new ExpiryDate("2030-01-01")).execute(model);
+        model.deleteIngredient(APRICOT);
+        assertEquals(Collections.singletonList(BANANA), model.getFilteredIngredientList());
+    }
+
+    @Test
+    public void equals() {
+        ListExpiringIngredientCommand command = new ListExpiringIngredientCommand(new ExpiryDate("2020-10-31"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ListExpiringIngredientCommand(new ExpiryDate("2020-10-31"))));
+        assertFalse(command.equals(new ListExpiringIngredientCommand(new ExpiryDate("2020-11-01"))));
+        assertFalse(command.equals(null));
+    }
 }
@@ -0,0 +1,46 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.index.Index;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.recipe.RecipeBook;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(new RecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_NOTHING_TO_REDO, () ->
+            new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterUndo_deleteRedone() throws Exception {
+        String deleted = new DeleteIngredientCommand(Index.fromOneBased(1)).execute(model).getFeedbackToUser();
+        new UndoCommand().execute(model);
+
+        CommandResult result = new RedoCommand().execute(model);
+        assertEquals(String.format(RedoCommand.MESSAGE_SUCCESS, deleted), result.getFeedbackToUser());
+        assertFalse(model.hasIngredient(APRICOT));
+        assertFalse(model.canRedoBooks());
+    }
+
+    @Test
+    public void execute_changedAfterUndo_throwsCommandException() throws Exception {
+        new DeleteIngredientCommand(Index.fromOneBased(1)).execute(model);
+        new UndoCommand().execute(model);
+        new DeleteIngredientCommand(Index.fromOneBased(2)).execute(model);
+
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_NOTHING_TO_REDO, () ->
+            new RedoCommand().execute(model));
+    }
+}
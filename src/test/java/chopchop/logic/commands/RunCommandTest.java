@@ -0,0 +1,105 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIndexes.INDEX_FIRST_INGREDIENT;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.Messages;
+import chopchop.commons.core.index.Index;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.testutil.IngredientBuilder;
+
+public class RunCommandTest {
+
+    private static final Ingredient CHERRY = new IngredientBuilder().withName("Cherry").build();
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_singleVersion() throws Exception {
+        RunCommand runCommand = new RunCommand(Arrays.asList(new AddIngredientCommand(CHERRY),
+                new DeleteIngredientCommand(INDEX_FIRST_INGREDIENT)), Arrays.asList(1, 2));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2);
+        assertEquals(expectedMessage, runCommand.execute(model).getFeedbackToUser());
+
+        IngredientBook expectedIngredients = getTypicalIngredientBook();
+        expectedIngredients.addIngredient(CHERRY);
+        expectedIngredients.removeIngredient(APRICOT);
+        assertEquals(expectedIngredients, model.getIngredientBook());
+        assertEquals(Collections.singletonList(expectedMessage), model.getBookHistory());
+
+        // undone as one
+        model.undoBooks();
+        assertEquals(getTypicalIngredientBook(), model.getIngredientBook());
+        assertFalse(model.canUndoBooks());
+    }
+
+    @Test
+    public void execute_commandFails_noChangesKept() {
+        // out of bounds even after the ingredient added before it
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredIngredientList().size() + 2);
+        RunCommand runCommand = new RunCommand(Arrays.asList(new AddIngredientCommand(CHERRY),
+                new DeleteIngredientCommand(outOfBoundIndex)), Arrays.asList(1, 3));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_COMMAND_FAILED, 3,
+                Messages.MESSAGE_INVALID_INGREDIENT_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> runCommand.execute(model));
+        assertEquals(getTypicalIngredientBook(), model.getIngredientBook());
+        assertFalse(model.canUndoBooks());
+    }
+
+    @Test
+    public void execute_commandThrowsUnexpectedly_noChangesKept() throws Exception {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalStateException("Unexpected failure");
+            }
+        };
+        RunCommand runCommand = new RunCommand(Arrays.asList(new AddIngredientCommand(CHERRY), failingCommand),
+                Arrays.asList(1, 2));
+
+        assertThrows(IllegalStateException.class, "Unexpected failure", () -> runCommand.execute(model));
+        assertEquals(getTypicalIngredientBook(), model.getIngredientBook());
+
+        // versions are committed again
+        new AddIngredientCommand(CHERRY).execute(model);
+        assertTrue(model.canUndoBooks());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Arrays.asList(new DeleteIngredientCommand(INDEX_FIRST_INGREDIENT)),
+                Arrays.asList(1));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(
+                Arrays.asList(new DeleteIngredientCommand(INDEX_FIRST_INGREDIENT)), Arrays.asList(1))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different line numbers -> returns false
+        assertFalse(runCommand.equals(new RunCommand(
+                Arrays.asList(new DeleteIngredientCommand(INDEX_FIRST_INGREDIENT)), Arrays.asList(2))));
+    }
+}
@@ -0,0 +1,47 @@
+package chopchop.logic.commands;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import chopchop.commons.core.index.Index;
+import chopchop.logic.commands.exceptions.CommandException;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.recipe.RecipeBook;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(new RecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_NOTHING_TO_UNDO, () ->
+            new UndoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterDelete_ingredientRestored() throws Exception {
+        String deleted = new DeleteIngredientCommand(Index.fromOneBased(1)).execute(model).getFeedbackToUser();
+        model.updateFilteredIngredientList(unused -> false);
+
+        CommandResult result = new UndoCommand().execute(model);
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, deleted), result.getFeedbackToUser());
+        assertEquals(getTypicalIngredientBook(), model.getIngredientBook());
+        assertTrue(model.getFilteredIngredientList().contains(APRICOT));
+        assertFalse(model.canUndoBooks());
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand command = new UndoCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UndoCommand()));
+        assertFalse(command.equals(new RedoCommand()));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,52 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import chopchop.logic.commands.AddRecipeCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Quantity;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+import chopchop.testutil.RecipeBuilder;
+
+public class AddRecipeCommandParserTest {
+
+    private final AddRecipeCommandParser parser = new AddRecipeCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() throws Exception {
+        Ingredient apricots = new Ingredient(APRICOT.getName(), new Quantity(5), APRICOT.getExpiryDate());
+        // no quantity or expiry date given
+        Ingredient eggs = new Ingredient(Name.of("Egg"), AddRecipeCommandParser.DEFAULT_QUANTITY,
+                AddRecipeCommandParser.DEFAULT_EXPIRY_DATE);
+        Recipe expected = new RecipeBuilder().withName("Apricot Omelette").withIngredients(apricots, eggs)
+                .withSteps("Chop the apricots.", "Add them to the eggs").build();
+
+        assertEquals(new AddRecipeCommand(expected), parser.parse(" Apricot Omelette /step Chop the apricots. "
+                + "/ingredient Apricot /qty 5 /expiry " + APRICOT.getExpiryDate() + " /ingredient Egg "
+                + "/step Add them to the eggs"));
+    }
+
+    @Test
+    public void parse_noIngredientsOrSteps_success() throws Exception {
+        Recipe expected = new RecipeBuilder().withName("Water").withIngredients().withSteps().build();
+        assertEquals(new AddRecipeCommand(expected), parser.parse(" Water"));
+    }
+
+    @Test
+    public void parse_missingName_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecipeCommand.MESSAGE_USAGE), () -> parser.parse(" /step Boil water"));
+    }
+
+    @Test
+    public void parse_invalidIngredient_throwsParseException() {
+        assertThrows(ParseException.class, Quantity.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(" Jam /ingredient Apricot /qty 0"));
+        assertThrows(ParseException.class, () -> parser.parse(" Jam /ingredient /qty 2"));
+    }
+}
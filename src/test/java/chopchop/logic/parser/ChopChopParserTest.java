@@ -0,0 +1,160 @@
+package chopchop.logic.parser;
+
+import static chopchop.commons.core.Messages.MESSAGE_COMMAND_NOT_IN_SCRIPT;
+import static chopchop.commons.core.Messages.MESSAGE_INCOMPLETE_COMMAND;
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static chopchop.commons.core.Messages.MESSAGE_INVALID_SCRIPT_LINE;
+import static chopchop.commons.core.Messages.MESSAGE_NESTED_SCRIPT;
+import static chopchop.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIndexes.INDEX_FIRST_INGREDIENT;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.commands.DeleteIngredientCommand;
+import chopchop.logic.commands.DeleteRecipeCommand;
+import chopchop.logic.commands.FilterIngredientCommand;
+import chopchop.logic.commands.FindIngredientCommand;
+import chopchop.logic.commands.FindRecipeCommand;
+import chopchop.logic.commands.HistoryCommand;
+import chopchop.logic.commands.ListCookableRecipeCommand;
+import chopchop.logic.commands.ListExpiringIngredientCommand;
+import chopchop.logic.commands.ListIngredientCommand;
+import chopchop.logic.commands.ListRecipeCommand;
+import chopchop.logic.commands.RedoCommand;
+import chopchop.logic.commands.RunCommand;
+import chopchop.logic.commands.UndoCommand;
+import chopchop.logic.parser.exceptions.ParseException;
+import chopchop.model.attributes.ExpiryDate;
+import chopchop.model.attributes.NameContainsKeywordsPredicate;
+import chopchop.testutil.IngredientUtil;
+
+public class ChopChopParserTest {
+
+    private final ChopChopParser parser = new ChopChopParser();
+
+    @Test
+    public void parseCommand_addIngredient() throws Exception {
+        assertEquals(new AddIngredientCommand(APRICOT), parser.parseCommand(IngredientUtil.getAddCommand(APRICOT)));
+    }
+
+    @Test
+    public void parseCommand_deleteWithTarget() throws Exception {
+        assertEquals(new DeleteIngredientCommand(INDEX_FIRST_INGREDIENT),
+                parser.parseCommand(DeleteIngredientCommand.COMMAND_WORD + " 1"));
+        assertEquals(new DeleteRecipeCommand(INDEX_FIRST_INGREDIENT),
+                parser.parseCommand(DeleteRecipeCommand.COMMAND_WORD + " 1"));
+    }
+
+    @Test
+    public void parseCommand_findWithTarget() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        assertEquals(new FindIngredientCommand(new NameContainsKeywordsPredicate<>(keywords)),
+                parser.parseCommand(FindIngredientCommand.COMMAND_WORD + " foo bar  baz"));
+        assertEquals(new FindRecipeCommand(keywords),
+                parser.parseCommand(FindRecipeCommand.COMMAND_WORD + " foo bar  baz"));
+    }
+
+    @Test
+    public void parseCommand_list() throws Exception {
+        assertTrue(parser.parseCommand(ListIngredientCommand.COMMAND_WORD) instanceof ListIngredientCommand);
+        assertTrue(parser.parseCommand(ListRecipeCommand.COMMAND_WORD + " 3") instanceof ListRecipeCommand);
+        assertEquals(new ListCookableRecipeCommand(), parser.parseCommand(ListCookableRecipeCommand.COMMAND_WORD));
+        assertEquals(new ListCookableRecipeCommand(2),
+                parser.parseCommand(ListCookableRecipeCommand.COMMAND_WORD + " 2"));
+        assertEquals(new ListExpiringIngredientCommand(new ExpiryDate("2020-10-31")),
+                parser.parseCommand(ListExpiringIngredientCommand.COMMAND_WORD + " 2020-10-31"));
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        assertEquals(new FilterIngredientCommand(new ExpiryDate("2020-10-01"), new ExpiryDate("2020-10-31")),
+                parser.parseCommand(FilterIngredientCommand.COMMAND_WORD + " 2020-10-01 2020-10-31"));
+    }
+
+    @Test
+    public void parseCommand_undoRedoHistory() throws Exception {
+        assertEquals(new UndoCommand(), parser.parseCommand(UndoCommand.COMMAND_WORD));
+        assertEquals(new RedoCommand(), parser.parseCommand(RedoCommand.COMMAND_WORD));
+        assertEquals(new HistoryCommand(), parser.parseCommand(HistoryCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_irregularWhitespace_commandFound() throws Exception {
+        assertEquals(new DeleteRecipeCommand(INDEX_FIRST_INGREDIENT), parser.parseCommand("  delete \t recipe   1 "));
+    }
+
+    @Test
+    public void parseCommand_missingTarget_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND,
+                "delete ingredient, delete recipe"), () -> parser.parseCommand("delete 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND,
+                "add ingredient, add recipe"), () -> parser.parseCommand("add"));
+    }
+
+    @Test
+    public void parseCommand_invalidArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindRecipeCommand.MESSAGE_USAGE), () -> parser.parseCommand(FindRecipeCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListCookableRecipeCommand.MESSAGE_USAGE), () -> parser.parseCommand("list cookable -1"));
+    }
+
+    @Test
+    public void parseCommand_unrecognisedInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(""));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("addrecipe"));
+    }
+
+    @Test
+    public void parseScript_blankAndCommentLines_skipped() throws Exception {
+        List<String> lines = Arrays.asList("# groceries", IngredientUtil.getAddCommand(APRICOT), "   ",
+                DeleteRecipeCommand.COMMAND_WORD + " 1");
+        RunCommand expectedCommand = new RunCommand(Arrays.asList(new AddIngredientCommand(APRICOT),
+                new DeleteRecipeCommand(INDEX_FIRST_INGREDIENT)), Arrays.asList(2, 4));
+        assertEquals(expectedCommand, parser.parseScript(lines));
+    }
+
+    @Test
+    public void parseScript_invalidLine_throwsParseExceptionWithLineNumber() {
+        List<String> lines = Arrays.asList(DeleteRecipeCommand.COMMAND_WORD + " 1", "", "unknownCommand");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 3, MESSAGE_UNKNOWN_COMMAND), ()
+            -> parser.parseScript(lines));
+    }
+
+    @Test
+    public void parseScript_findThenDelete_throwsParseException() {
+        // the script would only report how many commands it ran, so the find would not be seen
+        List<String> lines = Arrays.asList(FindIngredientCommand.COMMAND_WORD + " apricot",
+                DeleteIngredientCommand.COMMAND_WORD + " 1");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, FindIngredientCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(lines));
+    }
+
+    @Test
+    public void parseScript_listOrUndoCommand_throwsParseException() {
+        List<String> lines = Arrays.asList(DeleteRecipeCommand.COMMAND_WORD + " 1",
+                ListRecipeCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 2,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, ListRecipeCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(lines));
+
+        List<String> undoLines = Arrays.asList(UndoCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, UndoCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(undoLines));
+    }
+
+    @Test
+    public void parseScript_runCommand_throwsParseException() {
+        List<String> lines = Arrays.asList(RunCommand.COMMAND_WORD + " script.txt");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1, MESSAGE_NESTED_SCRIPT), ()
+            -> parser.parseScript(lines));
+    }
+}
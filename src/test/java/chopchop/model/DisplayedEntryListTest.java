@@ -0,0 +1,73 @@
+package chopchop.model;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class DisplayedEntryListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("apple", "banana", "cherry");
+    private final DisplayedEntryList<String> displayedEntryList = new DisplayedEntryList<>(source);
+    private final ObservableList<String> displayed = displayedEntryList.asUnmodifiableObservableList();
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> displayed.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> displayed.add("durian"));
+    }
+
+    @Test
+    public void setPredicate_followsSource() {
+        displayedEntryList.setPredicate(entry -> entry.contains("an"));
+        assertEquals(Collections.singletonList("banana"), displayed);
+
+        source.add("mango");
+        source.remove("banana");
+        assertEquals(Collections.singletonList("mango"), displayed);
+    }
+
+    @Test
+    public void show_displaysEntriesInGivenOrder() {
+        displayedEntryList.show(Arrays.asList("cherry", "apple"));
+        assertEquals(Arrays.asList("cherry", "apple"), displayed);
+
+        // new entries are not added to a shown result
+        source.add("anchovy");
+        assertEquals(Arrays.asList("cherry", "apple"), displayed);
+    }
+
+    @Test
+    public void show_sourceEntriesRemovedOrReplaced_followed() {
+        displayedEntryList.show(Arrays.asList("cherry", "banana", "apple"));
+
+        source.remove("banana");
+        source.set(source.indexOf("apple"), "apricot");
+        assertEquals(Arrays.asList("cherry", "apricot"), displayed);
+    }
+
+    @Test
+    public void setPredicate_afterShow_followsSourceAgain() {
+        displayedEntryList.show(Collections.singletonList("cherry"));
+        displayedEntryList.setPredicate(unused -> true);
+        assertEquals(source, displayed);
+
+        source.add("durian");
+        assertEquals(source, displayed);
+    }
+
+    @Test
+    public void show_listenersNotified() {
+        List<String> seen = new ArrayList<>();
+        displayed.addListener((ListChangeListener<String>) change -> seen.addAll(change.getList()));
+
+        displayedEntryList.show(Collections.singletonList("banana"));
+        assertEquals(Collections.singletonList("banana"), seen);
+    }
+}
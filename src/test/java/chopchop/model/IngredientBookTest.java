@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static chopchop.testutil.Assert.assertThrows;
 import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
 import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
 import java.util.Arrays;
 import java.util.Collection;
@@ -53,6 +54,17 @@ public class IngredientBookTest {
         assertThrows(DuplicateIngredientException.class, () -> ingredientBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withSeveralDuplicates_reportsEveryDuplicate() {
+        Ingredient editedApricot = new IngredientBuilder(APRICOT).withQuantity(VALID_INGREDIENT_QTY_BANANA).build();
+        List<Ingredient> newIngredients = Arrays.asList(APRICOT, BANANA, editedApricot, BANANA);
+        IngredientBookTest.IngredientBookStub newData = new IngredientBookTest.IngredientBookStub(newIngredients);
+
+        assertThrows(DuplicateIngredientException.class,
+            "Operation would result in duplicate ingredients: Apricot, Banana", () -> ingredientBook.resetData(newData));
+        assertEquals(Collections.emptyList(), ingredientBook.getFoodEntryList());
+    }
+
     @Test
     public void hasIngredient_nullIngredient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ingredientBook.hasIngredient(null));
@@ -0,0 +1,206 @@
+package chopchop.model;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.IngredientBuilder;
+
+public class VersionHistoryTest {
+
+    private static final Ingredient CHERRY = new IngredientBuilder().withName("Cherry").build();
+    private static final Ingredient DURIAN = new IngredientBuilder().withName("Durian").build();
+
+    private IngredientBook ingredientBook;
+    private RecipeBook recipeBook;
+    private VersionHistory history;
+
+    @BeforeEach
+    public void setUp() {
+        ingredientBook = getTypicalIngredientBook();
+        ingredientBook.addIngredient(CHERRY);
+        recipeBook = getTypicalRecipeBook();
+        history = new VersionHistory(ingredientBook, recipeBook, VersionHistory.DEFAULT_MAX_VERSIONS);
+    }
+
+    @Test
+    public void constructor_invalidMaxVersions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionHistory(ingredientBook, recipeBook, 0));
+    }
+
+    @Test
+    public void commit_noChanges_nothingCommitted() {
+        assertFalse(history.commit("nothing"));
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertEquals(Collections.emptyList(), history.getHistory());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undoAndRedo_deleteFromMiddle_exactOrderRestored() {
+        IngredientBook expected = new IngredientBook(ingredientBook);
+        ingredientBook.removeIngredient(BANANA);
+        IngredientBook afterDelete = new IngredientBook(ingredientBook);
+        assertTrue(history.commit("delete banana"));
+
+        assertEquals("delete banana", history.undo());
+        assertEquals(expected, ingredientBook);
+        assertTrue(history.canRedo());
+
+        assertEquals("delete banana", history.redo());
+        assertEquals(afterDelete, ingredientBook);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undoAndRedo_bothBooksChanged_bothRestored() {
+        IngredientBook expectedIngredients = new IngredientBook(ingredientBook);
+        RecipeBook expectedRecipes = new RecipeBook(recipeBook);
+        ingredientBook.setIngredient(APRICOT, DURIAN);
+        recipeBook.removeRecipe(APRICOT_JAM);
+        history.commit("replace apricot");
+
+        history.undo();
+        assertEquals(expectedIngredients, ingredientBook);
+        assertEquals(expectedRecipes, recipeBook);
+    }
+
+    @Test
+    public void undo_severalVersions_latestFirst() {
+        ingredientBook.addIngredient(DURIAN);
+        history.commit("add durian");
+        ingredientBook.removeIngredient(APRICOT);
+        history.commit("delete apricot");
+        assertEquals(Arrays.asList("add durian", "delete apricot"), history.getHistory());
+
+        assertEquals("delete apricot", history.undo());
+        assertEquals("add durian", history.undo());
+        assertEquals(getTypicalIngredientBookWithCherry(), ingredientBook);
+        assertEquals(Collections.emptyList(), history.getHistory());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoForgotten() {
+        ingredientBook.addIngredient(DURIAN);
+        history.commit("add durian");
+        history.undo();
+
+        ingredientBook.removeIngredient(CHERRY);
+        assertFalse(history.canRedo());
+        history.commit("delete cherry");
+        assertFalse(history.canRedo());
+        assertEquals(Collections.singletonList("delete cherry"), history.getHistory());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedThenUndone() {
+        ingredientBook.removeIngredient(CHERRY);
+
+        assertTrue(history.canUndo());
+        assertEquals(VersionHistory.UNCOMMITTED_DESCRIPTION, history.undo());
+        assertEquals(getTypicalIngredientBookWithCherry(), ingredientBook);
+        assertEquals(VersionHistory.UNCOMMITTED_DESCRIPTION, history.redo());
+        assertFalse(ingredientBook.hasIngredient(CHERRY));
+    }
+
+    @Test
+    public void commit_moreThanMaxVersions_oldestForgotten() {
+        history = new VersionHistory(ingredientBook, recipeBook, 2);
+        ingredientBook.removeIngredient(APRICOT);
+        history.commit("delete apricot");
+        ingredientBook.removeIngredient(BANANA);
+        history.commit("delete banana");
+        ingredientBook.removeIngredient(CHERRY);
+        history.commit("delete cherry");
+
+        assertEquals(Arrays.asList("delete banana", "delete cherry"), history.getHistory());
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(Arrays.asList(BANANA, CHERRY), ingredientBook.getFoodEntryList());
+    }
+
+    @Test
+    public void undoAndRedo_bulkChange_exactOrderRestored() {
+        List<Ingredient> many = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            many.add(new IngredientBuilder().withName("Ingredient " + i).build());
+        }
+        IngredientBook expected = new IngredientBook(ingredientBook);
+        ingredientBook.setFoodEntries(many);
+        history.commit("import");
+
+        history.undo();
+        assertEquals(expected, ingredientBook);
+        assertEquals(Arrays.asList(APRICOT, BANANA, CHERRY), ingredientBook.getFoodEntryList());
+        history.redo();
+        assertEquals(many, ingredientBook.getFoodEntryList());
+    }
+
+    @Test
+    public void endBatch_severalCommits_singleVersion() {
+        ingredientBook.removeIngredient(BANANA);
+        history.commit("delete banana");
+
+        history.startBatch();
+        ingredientBook.removeIngredient(CHERRY);
+        assertFalse(history.commit("delete cherry"));
+        assertFalse(history.canUndo());
+        ingredientBook.addIngredient(DURIAN);
+        assertFalse(history.commit("add durian"));
+        assertTrue(history.endBatch("run"));
+
+        assertEquals(Arrays.asList("delete banana", "run"), history.getHistory());
+        history.undo();
+        assertEquals(Arrays.asList(APRICOT, CHERRY), ingredientBook.getFoodEntryList());
+    }
+
+    @Test
+    public void abortBatch_changesTakenBack() {
+        ingredientBook.removeIngredient(BANANA);
+        history.commit("delete banana");
+        history.undo();
+
+        ingredientBook.removeIngredient(CHERRY);
+        history.startBatch();
+        ingredientBook.removeIngredient(APRICOT);
+        recipeBook.removeRecipe(APRICOT_JAM);
+        history.abortBatch();
+
+        // the change made before the batch is kept, and committed
+        assertEquals(Arrays.asList(APRICOT, BANANA), ingredientBook.getFoodEntryList());
+        assertEquals(getTypicalRecipeBook(), recipeBook);
+        assertEquals(Arrays.asList(VersionHistory.UNCOMMITTED_DESCRIPTION), history.getHistory());
+    }
+
+    @Test
+    public void startBatch_alreadyStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> history.endBatch("run"));
+        assertThrows(IllegalStateException.class, history::abortBatch);
+        history.startBatch();
+        assertThrows(IllegalStateException.class, history::startBatch);
+    }
+
+    private static IngredientBook getTypicalIngredientBookWithCherry() {
+        IngredientBook ingredientBook = getTypicalIngredientBook();
+        ingredientBook.addIngredient(CHERRY);
+        return ingredientBook;
+    }
+}
@@ -0,0 +1,60 @@
+package chopchop.model.attributes;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<Name> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Name first = new Name("Salt");
+        Name second = new Name("Salt");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        Name salt = interner.intern(new Name("Salt"));
+        Name pepper = interner.intern(new Name("Pepper"));
+
+        assertNotSame(salt, pepper);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_manyValues_allKeptAcrossStripes() {
+        for (int i = 0; i < Interner.STRIPE_COUNT * 4; i++) {
+            Name name = new Name("Spice " + i);
+            assertSame(name, interner.intern(name));
+            assertSame(name, interner.intern(new Name("Spice " + i)));
+        }
+        assertEquals(Interner.STRIPE_COUNT * 4, interner.size());
+    }
+
+    @Test
+    public void of_equalText_returnsSameInstance() {
+        assertSame(Name.of("Salt"), Name.of("Salt"));
+        assertSame(Step.of("Season to taste"), Step.of("Season to taste"));
+        assertEquals(new Name("Salt"), Name.of("Salt"));
+    }
+
+    @Test
+    public void of_invalidText_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Name.of(" "));
+        assertThrows(IllegalArgumentException.class, () -> Step.of(""));
+    }
+}
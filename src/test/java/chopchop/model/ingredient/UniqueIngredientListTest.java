@@ -0,0 +1,125 @@
+package chopchop.model.ingredient;
+
+import static chopchop.logic.commands.CommandTestUtil.VALID_INGREDIENT_EXPIRY_BANANA;
+import static chopchop.logic.commands.CommandTestUtil.VALID_INGREDIENT_QTY_BANANA;
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import chopchop.model.ingredient.exceptions.DuplicateIngredientException;
+import chopchop.model.ingredient.exceptions.IngredientNotFoundException;
+import chopchop.testutil.IngredientBuilder;
+
+public class UniqueIngredientListTest {
+
+    private final UniqueIngredientList uniqueIngredientList = new UniqueIngredientList();
+
+    @Test
+    public void contains_nullIngredient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueIngredientList.contains(null));
+    }
+
+    @Test
+    public void contains_ingredientNotInList_returnsFalse() {
+        assertFalse(uniqueIngredientList.contains(APRICOT));
+    }
+
+    @Test
+    public void contains_ingredientWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueIngredientList.add(APRICOT);
+        Ingredient editedApricot = new IngredientBuilder(APRICOT).withQuantity(VALID_INGREDIENT_QTY_BANANA).build();
+        assertTrue(uniqueIngredientList.contains(editedApricot));
+    }
+
+    @Test
+    public void contains_ingredientWithDifferentExpiry_returnsFalse() {
+        uniqueIngredientList.add(APRICOT);
+        Ingredient editedApricot = new IngredientBuilder(APRICOT).withDate(VALID_INGREDIENT_EXPIRY_BANANA).build();
+        assertFalse(uniqueIngredientList.contains(editedApricot));
+    }
+
+    @Test
+    public void add_duplicateIngredient_throwsDuplicateIngredientException() {
+        uniqueIngredientList.add(APRICOT);
+        assertThrows(DuplicateIngredientException.class, () -> uniqueIngredientList.add(APRICOT));
+    }
+
+    @Test
+    public void indexOf_tracksListPositions() {
+        uniqueIngredientList.add(APRICOT);
+        uniqueIngredientList.add(BANANA);
+        assertEquals(0, uniqueIngredientList.indexOf(APRICOT));
+        assertEquals(1, uniqueIngredientList.indexOf(BANANA));
+
+        uniqueIngredientList.remove(APRICOT);
+        assertEquals(-1, uniqueIngredientList.indexOf(APRICOT));
+        assertEquals(0, uniqueIngredientList.indexOf(BANANA));
+    }
+
+    @Test
+    public void setIngredient_targetIngredientNotInList_throwsIngredientNotFoundException() {
+        assertThrows(IngredientNotFoundException.class, () -> uniqueIngredientList.setIngredient(APRICOT, APRICOT));
+    }
+
+    @Test
+    public void setIngredient_editedIngredientHasSameIdentity_success() {
+        uniqueIngredientList.add(APRICOT);
+        Ingredient editedApricot = new IngredientBuilder(APRICOT).withQuantity(VALID_INGREDIENT_QTY_BANANA).build();
+        uniqueIngredientList.setIngredient(APRICOT, editedApricot);
+
+        assertEquals(Collections.singletonList(editedApricot), uniqueIngredientList.asUnmodifiableObservableList());
+        assertTrue(uniqueIngredientList.contains(editedApricot));
+        assertEquals(0, uniqueIngredientList.indexOf(editedApricot));
+    }
+
+    @Test
+    public void setIngredient_editedIngredientHasDifferentIdentity_success() {
+        uniqueIngredientList.add(APRICOT);
+        uniqueIngredientList.setIngredient(APRICOT, BANANA);
+
+        assertFalse(uniqueIngredientList.contains(APRICOT));
+        assertEquals(0, uniqueIngredientList.indexOf(BANANA));
+    }
+
+    @Test
+    public void setIngredient_editedIngredientHasNonUniqueIdentity_throwsDuplicateIngredientException() {
+        uniqueIngredientList.add(APRICOT);
+        uniqueIngredientList.add(BANANA);
+        assertThrows(DuplicateIngredientException.class, () -> uniqueIngredientList.setIngredient(APRICOT, BANANA));
+    }
+
+    @Test
+    public void remove_ingredientDoesNotExist_throwsIngredientNotFoundException() {
+        assertThrows(IngredientNotFoundException.class, () -> uniqueIngredientList.remove(APRICOT));
+    }
+
+    @Test
+    public void setIngredientEntries_list_replacesOwnListWithProvidedList() {
+        uniqueIngredientList.add(APRICOT);
+        List<Ingredient> ingredientList = Collections.singletonList(BANANA);
+        uniqueIngredientList.setIngredientEntries(ingredientList);
+
+        assertEquals(ingredientList, uniqueIngredientList.asUnmodifiableObservableList());
+        assertFalse(uniqueIngredientList.contains(APRICOT));
+        assertTrue(uniqueIngredientList.contains(BANANA));
+    }
+
+    @Test
+    public void setIngredientEntries_listWithDuplicateIngredients_throwsDuplicateIngredientException() {
+        List<Ingredient> listWithDuplicateIngredients = Arrays.asList(APRICOT, APRICOT);
+        assertThrows(DuplicateIngredientException.class, () ->
+            uniqueIngredientList.setIngredientEntries(listWithDuplicateIngredients));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+            uniqueIngredientList.asUnmodifiableObservableList().remove(0));
+    }
+}
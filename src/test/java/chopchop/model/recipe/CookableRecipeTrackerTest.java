@@ -0,0 +1,88 @@
+package chopchop.model.recipe;
+
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.testutil.IngredientBuilder;
+import chopchop.testutil.RecipeBuilder;
+import chopchop.testutil.TypicalRecipes;
+
+public class CookableRecipeTrackerTest {
+
+    private final RecipeBook recipeBook = TypicalRecipes.getTypicalRecipeBook();
+    private final IngredientBook ingredientBook = new IngredientBook();
+    private final CookableRecipeTracker tracker = new CookableRecipeTracker(recipeBook, ingredientBook);
+
+    @Test
+    public void constructor_emptyIngredientBook_everythingMissing() {
+        assertEquals(1, tracker.getMissingCount(APRICOT_JAM));
+        assertEquals(2, tracker.getMissingCount(FRUIT_SALAD));
+        assertTrue(tracker.getRecipesMissing(0).isEmpty());
+    }
+
+    @Test
+    public void addIngredient_updatesRecipesUsingIt() {
+        ingredientBook.addIngredient(APRICOT);
+        assertEquals(Collections.singleton(APRICOT_JAM), tracker.getRecipesMissing(0));
+        assertEquals(Collections.singleton(FRUIT_SALAD), tracker.getRecipesMissing(1));
+
+        ingredientBook.addIngredient(BANANA);
+        assertEquals(0, tracker.getMissingCount(FRUIT_SALAD));
+    }
+
+    @Test
+    public void ingredientQuantity_summedOverLots() {
+        Ingredient halfApricots = new IngredientBuilder(APRICOT).withQuantity(APRICOT.getQuantity().value / 2)
+            .build();
+        ingredientBook.addIngredient(halfApricots);
+        assertEquals(1, tracker.getMissingCount(APRICOT_JAM));
+
+        Ingredient otherHalf = new IngredientBuilder(halfApricots).withName("apricot").withDate("2030-01-01").build();
+        ingredientBook.addIngredient(otherHalf);
+        assertEquals(0, tracker.getMissingCount(APRICOT_JAM));
+
+        ingredientBook.removeIngredient(otherHalf);
+        assertEquals(1, tracker.getMissingCount(APRICOT_JAM));
+    }
+
+    @Test
+    public void ingredientQuantity_roundingErrorsIgnored() {
+        Ingredient cherries = new IngredientBuilder().withName("Cherry").withQuantity(0.7).withDate("2030-01-01")
+            .build();
+        Ingredient moreCherries = new IngredientBuilder(cherries).withQuantity(0.1).withDate("2030-02-01").build();
+        Recipe cherryPie = new RecipeBuilder().withName("Cherry Pie")
+            .withIngredients(new IngredientBuilder(cherries).withQuantity(0.8).build()).build();
+        recipeBook.addRecipe(cherryPie);
+
+        // 0.7 + 0.1 is just below 0.8 in floating point
+        ingredientBook.addIngredient(cherries);
+        ingredientBook.addIngredient(moreCherries);
+        assertEquals(0, tracker.getMissingCount(cherryPie));
+
+        // subtracting 0.7 again would leave just below 0.1
+        Recipe cherryTart = new RecipeBuilder().withName("Cherry Tart").withIngredients(moreCherries).build();
+        recipeBook.addRecipe(cherryTart);
+        ingredientBook.removeIngredient(cherries);
+        assertEquals(0, tracker.getMissingCount(cherryTart));
+        assertEquals(1, tracker.getMissingCount(cherryPie));
+    }
+
+    @Test
+    public void recipeChanges_areTracked() {
+        ingredientBook.addIngredient(APRICOT);
+        recipeBook.removeRecipe(APRICOT_JAM);
+        assertEquals(-1, tracker.getMissingCount(APRICOT_JAM));
+        assertTrue(tracker.getRecipesMissing(0).isEmpty());
+
+        Recipe plainApricots = new RecipeBuilder().withName("Plain Apricots").withIngredients(APRICOT).build();
+        recipeBook.addRecipe(plainApricots);
+        assertEquals(Collections.singleton(plainApricots), tracker.getRecipesMissing(0));
+    }
+}
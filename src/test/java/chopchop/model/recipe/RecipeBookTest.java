@@ -0,0 +1,137 @@
+package chopchop.model.recipe;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import chopchop.model.attributes.Name;
+import chopchop.testutil.IngredientBuilder;
+import chopchop.testutil.RecipeBuilder;
+
+public class RecipeBookTest {
+
+    private final RecipeBook recipeBook = new RecipeBook();
+
+    @Test
+    public void constructor() {
+        assertEquals(Collections.emptyList(), recipeBook.getFoodEntryList());
+        assertTrue(recipeBook.getRecipesWithIngredient(new Name("Apricot")).isEmpty());
+    }
+
+    @Test
+    public void getRecipesWithIngredient_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> recipeBook.getRecipesWithIngredient(null));
+    }
+
+    @Test
+    public void getRecipesWithIngredient_ignoresCaseAndWhitespace() {
+        recipeBook.addRecipe(APRICOT_JAM);
+        recipeBook.addRecipe(FRUIT_SALAD);
+
+        assertEquals(setOf(APRICOT_JAM, FRUIT_SALAD), recipeBook.getRecipesWithIngredient(new Name("apricot")));
+        assertEquals(setOf(FRUIT_SALAD), recipeBook.getRecipesWithIngredient(new Name("BANANA  ")));
+        assertTrue(recipeBook.getRecipesWithIngredient(new Name("Garlic")).isEmpty());
+    }
+
+    @Test
+    public void getRecipesWithIngredient_afterSetAndRemove_isUpdated() {
+        recipeBook.addRecipe(APRICOT_JAM);
+        recipeBook.addRecipe(FRUIT_SALAD);
+
+        Recipe bananaJam = new RecipeBuilder(APRICOT_JAM).withName("Banana Jam").withIngredients(BANANA).build();
+        recipeBook.setRecipe(APRICOT_JAM, bananaJam);
+        assertEquals(setOf(FRUIT_SALAD), recipeBook.getRecipesWithIngredient(new Name("Apricot")));
+        assertEquals(setOf(bananaJam, FRUIT_SALAD), recipeBook.getRecipesWithIngredient(new Name("Banana")));
+
+        recipeBook.removeRecipe(FRUIT_SALAD);
+        assertTrue(recipeBook.getRecipesWithIngredient(new Name("Apricot")).isEmpty());
+        assertEquals(setOf(bananaJam), recipeBook.getRecipesWithIngredient(new Name("Banana")));
+    }
+
+    @Test
+    public void resetData_rebuildsIngredientIndex() {
+        recipeBook.addRecipe(new RecipeBuilder().build());
+        recipeBook.resetData(getTypicalRecipeBook());
+
+        assertEquals(getTypicalRecipeBook(), recipeBook);
+        assertTrue(recipeBook.getRecipesWithIngredient(new Name(IngredientBuilder.DEFAULT_NAME)).isEmpty());
+        assertEquals(setOf(APRICOT_JAM, FRUIT_SALAD), recipeBook.getRecipesWithIngredient(new Name("Apricot")));
+    }
+
+    @Test
+    public void findRecipes_matchesNameIngredientsAndSteps() {
+        recipeBook.resetData(getTypicalRecipeBook());
+
+        assertEquals(Collections.singletonList(APRICOT_JAM), recipeBook.findRecipes(Arrays.asList("JAM")));
+        assertEquals(Collections.singletonList(FRUIT_SALAD), recipeBook.findRecipes(Arrays.asList("banana")));
+        assertEquals(Collections.singletonList(FRUIT_SALAD), recipeBook.findRecipes(Arrays.asList("bowl")));
+        assertTrue(recipeBook.findRecipes(Arrays.asList("apri")).isEmpty());
+    }
+
+    @Test
+    public void findRecipes_ranksRecipesMatchingMoreKeywordsFirst() {
+        recipeBook.resetData(getTypicalRecipeBook());
+
+        // both use apricots, but only the salad is tossed
+        assertEquals(Arrays.asList(FRUIT_SALAD, APRICOT_JAM), recipeBook.findRecipes(Arrays.asList("apricot", "toss")));
+        // "apricot" appears in both the name and ingredients of the jam
+        assertEquals(Arrays.asList(APRICOT_JAM, FRUIT_SALAD), recipeBook.findRecipes(Arrays.asList("apricot")));
+    }
+
+    @Test
+    public void findRecipes_keywordWithSeveralWords_requiresAllOfThem() {
+        recipeBook.resetData(getTypicalRecipeBook());
+
+        assertEquals(Collections.singletonList(FRUIT_SALAD), recipeBook.findRecipes(Arrays.asList("salad-fruit")));
+        assertTrue(recipeBook.findRecipes(Arrays.asList("jam-banana")).isEmpty());
+    }
+
+    @Test
+    public void findRecipes_afterSetAndRemove_isUpdated() {
+        recipeBook.resetData(getTypicalRecipeBook());
+
+        Recipe bananaJam = new RecipeBuilder(APRICOT_JAM).withName("Banana Jam").withIngredients(BANANA).build();
+        recipeBook.setRecipe(APRICOT_JAM, bananaJam);
+        assertEquals(Collections.singletonList(FRUIT_SALAD), recipeBook.findRecipes(Arrays.asList("apricot")));
+        assertEquals(Collections.singletonList(bananaJam), recipeBook.findRecipes(Arrays.asList("jam")));
+
+        recipeBook.removeRecipe(bananaJam);
+        assertTrue(recipeBook.findRecipes(Arrays.asList("jam")).isEmpty());
+    }
+
+    @Test
+    public void setFoodEntries_lazyRecipes_bodiesLoadedByFirstLookupOnly() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Recipe> lazyRecipes = Arrays.asList(lazy(APRICOT_JAM, loads), lazy(FRUIT_SALAD, loads));
+
+        recipeBook.setFoodEntries(lazyRecipes);
+        recipeBook.addRecipe(new RecipeBuilder().build());
+        assertEquals(0, loads.get());
+
+        assertEquals(Collections.singletonList(APRICOT_JAM), recipeBook.findRecipes(Arrays.asList("jam")));
+        assertTrue(loads.get() > 0);
+    }
+
+    private static Recipe lazy(Recipe recipe, AtomicInteger loads) {
+        return Recipe.withLazyBody(recipe.getName(), () -> {
+            loads.incrementAndGet();
+            return recipe;
+        });
+    }
+
+    private static Set<Recipe> setOf(Recipe... recipes) {
+        Set<Recipe> set = new HashSet<>();
+        Collections.addAll(set, recipes);
+        return set;
+    }
+}
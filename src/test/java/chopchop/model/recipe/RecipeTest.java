@@ -0,0 +1,91 @@
+package chopchop.model.recipe;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.testutil.RecipeBuilder;
+
+public class RecipeTest {
+
+    @Test
+    public void constructor_copiesCollections() {
+        Set<Ingredient> ingredients = new HashSet<>();
+        ingredients.add(APRICOT);
+        List<Step> steps = new ArrayList<>();
+        steps.add(new Step("Eat"));
+        Recipe recipe = new Recipe(new Name("Apricot"), ingredients, steps);
+        int hash = recipe.hashCode();
+
+        ingredients.add(BANANA);
+        steps.clear();
+
+        assertEquals(1, recipe.getIngredients().size());
+        assertEquals(1, recipe.getSteps().size());
+        assertEquals(hash, recipe.hashCode());
+    }
+
+    @Test
+    public void getters_modifyCollection_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> APRICOT_JAM.getIngredients().add(BANANA));
+        assertThrows(UnsupportedOperationException.class, () -> APRICOT_JAM.getSteps().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        Recipe apricotJamCopy = new RecipeBuilder(APRICOT_JAM).build();
+        assertTrue(APRICOT_JAM.equals(apricotJamCopy));
+        assertEquals(APRICOT_JAM.hashCode(), apricotJamCopy.hashCode());
+
+        // same object -> returns true
+        assertTrue(APRICOT_JAM.equals(APRICOT_JAM));
+
+        // null -> returns false
+        assertFalse(APRICOT_JAM.equals(null));
+
+        // different type -> returns false
+        assertFalse(APRICOT_JAM.equals(5));
+
+        // different recipe -> returns false
+        assertFalse(APRICOT_JAM.equals(FRUIT_SALAD));
+
+        // different ingredients -> returns false
+        assertFalse(APRICOT_JAM.equals(new RecipeBuilder(APRICOT_JAM).withIngredients(BANANA).build()));
+
+        // different steps -> returns false
+        assertFalse(APRICOT_JAM.equals(new RecipeBuilder(APRICOT_JAM).withSteps("Pour into jars").build()));
+    }
+
+    @Test
+    public void withLazyBody_bodyLoadedOnlyWhenUsed() {
+        AtomicInteger loads = new AtomicInteger();
+        Recipe lazyJam = Recipe.withLazyBody(APRICOT_JAM.getName(), () -> {
+            loads.incrementAndGet();
+            return APRICOT_JAM;
+        });
+
+        assertEquals(APRICOT_JAM.getName(), lazyJam.getName());
+        assertEquals(APRICOT_JAM.hashCode(), lazyJam.hashCode());
+        assertFalse(lazyJam.equals(FRUIT_SALAD));
+        assertEquals(0, loads.get());
+
+        assertEquals(APRICOT_JAM.getIngredients(), lazyJam.getIngredients());
+        assertEquals(APRICOT_JAM.getSteps(), lazyJam.getSteps());
+        assertTrue(lazyJam.equals(APRICOT_JAM));
+        assertTrue(APRICOT_JAM.equals(lazyJam));
+    }
+}
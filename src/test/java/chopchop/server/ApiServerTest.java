@@ -0,0 +1,280 @@
+package chopchop.server;
+
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.commons.util.JsonUtil;
+import chopchop.logic.LogicManager;
+import chopchop.logic.commands.AddIngredientCommand;
+import chopchop.logic.commands.DeleteRecipeCommand;
+import chopchop.model.Model;
+import chopchop.model.ModelManager;
+import chopchop.model.UserPrefs;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.storage.JournalledIngredientBookStorage;
+import chopchop.storage.JsonIngredientBookStorage;
+import chopchop.storage.JsonRecipeBookStorage;
+
+public class ApiServerTest {
+
+    private static final String CHERRY_JSON = "{\"name\":\"Cherry\",\"quantity\":3.0,\"expiryDate\":\"2021-06-01\"}";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private JsonIngredientBookStorage ingredientBookStorage;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalRecipeBook(), getTypicalIngredientBook(), new UserPrefs());
+        ingredientBookStorage = new JsonIngredientBookStorage(testFolder.resolve("ingredients.json"));
+        JsonRecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(testFolder.resolve("recipes.json"));
+        server = new ApiServer(new LogicManager(model, ingredientBookStorage, recipeBookStorage), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void get_allEntries_listsEntries() throws Exception {
+        Response response = request("GET", ApiServer.INGREDIENTS_PATH, null);
+        assertEquals(HTTP_OK, response.status);
+        assertEquals(Arrays.asList(APRICOT.getName().fullName, BANANA.getName().fullName),
+                response.getNames(JsonIngredientBookStorage.INGREDIENTS_FIELD));
+
+        response = request("GET", ApiServer.RECIPES_PATH, null);
+        assertEquals(HTTP_OK, response.status);
+        assertEquals(Arrays.asList(APRICOT_JAM.getName().fullName, FRUIT_SALAD.getName().fullName),
+                response.getNames(JsonRecipeBookStorage.RECIPES_FIELD));
+    }
+
+    @Test
+    public void get_find_listsMatchingEntries() throws Exception {
+        Response response = request("GET", ApiServer.RECIPES_PATH + "?find=salad%20pie", null);
+        assertEquals(HTTP_OK, response.status);
+        assertEquals(Collections.singletonList(FRUIT_SALAD.getName().fullName),
+                response.getNames(JsonRecipeBookStorage.RECIPES_FIELD));
+    }
+
+    @Test
+    public void post_validEntry_addedAndReadBack() throws Exception {
+        Response response = request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON);
+        assertEquals(HTTP_CREATED, response.status);
+        assertTrue(response.body.contains(ApiServer.MESSAGE_FIELD));
+
+        // a read right after a write sees it
+        response = request("GET", ApiServer.INGREDIENTS_PATH + "?find=cherry", null);
+        assertEquals(Collections.singletonList("Cherry"),
+                response.getNames(JsonIngredientBookStorage.INGREDIENTS_FIELD));
+        assertEquals(3, model.getIngredientBook().getFoodEntryList().size());
+        assertEquals(3, ingredientBookStorage.readIngredientBook().get().getFoodEntryList().size());
+    }
+
+    @Test
+    public void post_duplicateEntry_conflict() throws Exception {
+        request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON);
+
+        Response response = request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON);
+        assertEquals(HTTP_CONFLICT, response.status);
+        assertTrue(response.body.contains(AddIngredientCommand.MESSAGE_DUPLICATE_INGREDIENT));
+    }
+
+    @Test
+    public void post_invalidEntry_badRequest() throws Exception {
+        assertEquals(HTTP_BAD_REQUEST, request("POST", ApiServer.INGREDIENTS_PATH, "{\"name\":\"Cherry\"}").status);
+        assertEquals(HTTP_BAD_REQUEST, request("POST", ApiServer.INGREDIENTS_PATH, "not json").status);
+        assertEquals(HTTP_BAD_REQUEST, request("POST", ApiServer.INGREDIENTS_PATH, "null").status);
+        assertEquals(2, model.getIngredientBook().getFoodEntryList().size());
+    }
+
+    @Test
+    public void delete_existingName_deleted() throws Exception {
+        Response response = request("DELETE", ApiServer.RECIPES_PATH + "/Fruit%20Salad", null);
+        assertEquals(HTTP_OK, response.status);
+
+        response = request("GET", ApiServer.RECIPES_PATH, null);
+        assertEquals(Collections.singletonList(APRICOT_JAM.getName().fullName),
+                response.getNames(JsonRecipeBookStorage.RECIPES_FIELD));
+    }
+
+    @Test
+    public void delete_missingName_conflict() throws Exception {
+        Response response = request("DELETE", ApiServer.RECIPES_PATH + "/Pie", null);
+        assertEquals(HTTP_CONFLICT, response.status);
+        assertTrue(response.body.contains(String.format(DeleteRecipeCommand.MESSAGE_NO_SUCH_RECIPE, "Pie")));
+    }
+
+    @Test
+    public void request_unsupported_rejected() throws Exception {
+        assertEquals(HTTP_BAD_METHOD, request("PUT", ApiServer.INGREDIENTS_PATH, CHERRY_JSON).status);
+        assertEquals(HTTP_BAD_METHOD, request("GET", ApiServer.INGREDIENTS_PATH + "/Apricot", null).status);
+        assertEquals(HTTP_NOT_FOUND, request("GET", ApiServer.INGREDIENTS_PATH + "/Apricot/1", null).status);
+        assertEquals(HTTP_NOT_FOUND, request("GET", ApiServer.INGREDIENTS_PATH + "x", null).status);
+    }
+
+    @Test
+    public void post_commandFailsUnexpectedly_internalError() throws Exception {
+        server.stop();
+        JsonIngredientBookStorage failingStorage = new JsonIngredientBookStorage(testFolder.resolve("failing.json")) {
+            @Override
+            public void saveIngredientBook(ReadOnlyIngredientBook ingredientBook) {
+                throw new IllegalStateException("Disk on fire");
+            }
+        };
+        JsonRecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(testFolder.resolve("recipes.json"));
+        server = new ApiServer(new LogicManager(model, failingStorage, recipeBookStorage), 0);
+        server.start();
+
+        Response response = request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON);
+        assertEquals(HTTP_INTERNAL_ERROR, response.status);
+        assertTrue(response.body.contains(ApiServer.MESSAGE_INTERNAL_ERROR));
+
+        // the server keeps serving requests
+        assertEquals(HTTP_OK, request("GET", ApiServer.INGREDIENTS_PATH, null).status);
+    }
+
+    @Test
+    public void post_ingredient_recipesNotCopiedAgain() throws Exception {
+        server.stop();
+        int[] recipeBookReads = {0};
+        JsonRecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(testFolder.resolve("recipes.json"));
+        server = new ApiServer(new LogicManager(model, ingredientBookStorage, recipeBookStorage) {
+            @Override
+            public ReadOnlyRecipeBook getRecipeBook() {
+                recipeBookReads[0]++;
+                return super.getRecipeBook();
+            }
+        }, 0);
+        server.start();
+        int recipeBookReadsBefore = recipeBookReads[0];
+
+        assertEquals(HTTP_CREATED, request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON).status);
+        assertEquals(3, request("GET", ApiServer.INGREDIENTS_PATH, null)
+                .getNames(JsonIngredientBookStorage.INGREDIENTS_FIELD).size());
+        assertEquals(recipeBookReadsBefore, recipeBookReads[0]);
+
+        // the recipes are still served
+        assertEquals(2, request("GET", ApiServer.RECIPES_PATH, null)
+                .getNames(JsonRecipeBookStorage.RECIPES_FIELD).size());
+    }
+
+    @Test
+    public void createForFiles_savedIngredientBook_served() throws Exception {
+        server.stop();
+        ingredientBookStorage.saveIngredientBook(getTypicalIngredientBook());
+        server = ApiServer.createForFiles(0, testFolder.resolve("ingredients.json"),
+                testFolder.resolve("missing.json"));
+        server.start();
+
+        assertEquals(Arrays.asList(APRICOT.getName().fullName, BANANA.getName().fullName),
+                request("GET", ApiServer.INGREDIENTS_PATH, null).getNames(JsonIngredientBookStorage.INGREDIENTS_FIELD));
+        // a book that was never saved starts empty
+        assertEquals(Collections.emptyList(),
+                request("GET", ApiServer.RECIPES_PATH, null).getNames(JsonRecipeBookStorage.RECIPES_FIELD));
+
+        // writes are saved to the journalled books
+        assertEquals(HTTP_CREATED, request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON).status);
+        assertEquals(3, new JournalledIngredientBookStorage(testFolder.resolve("ingredients.json"))
+                .readIngredientBook().get().getFoodEntryList().size());
+    }
+
+    @Test
+    public void get_concurrentWithWrites_allServed() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> reads = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                reads.add(clients.submit(() -> request("GET", ApiServer.INGREDIENTS_PATH, null)));
+            }
+            assertEquals(HTTP_CREATED, request("POST", ApiServer.INGREDIENTS_PATH, CHERRY_JSON).status);
+
+            for (Future<Response> read : reads) {
+                Response response = read.get();
+                assertEquals(HTTP_OK, response.status);
+                // each read sees the ingredients either before or after the write, never anything in between
+                int count = response.getNames(JsonIngredientBookStorage.INGREDIENTS_FIELD).size();
+                assertTrue(count == 2 || count == 3);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertFalse(model.getIngredientBook().getFoodEntryList().isEmpty());
+    }
+
+    private Response request(String method, String path, String body) throws IOException {
+        HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream in = status < HTTP_BAD_REQUEST ? connection.getInputStream() : connection.getErrorStream();
+        try (in) {
+            return new Response(status, new String(in.readAllBytes(), UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> getNames(String field) throws IOException {
+            Map<String, List<Map<String, Object>>> json = JsonUtil.fromJsonString(body, Map.class);
+            return json.get(field).stream()
+                    .map(entry -> (String) entry.get("name"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
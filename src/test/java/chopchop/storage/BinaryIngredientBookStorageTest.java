@@ -0,0 +1,90 @@
+package chopchop.storage;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.IngredientBuilder;
+
+public class BinaryIngredientBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private IngredientBook readBack(Path filePath) throws Exception {
+        return new IngredientBook(new BinaryIngredientBookStorage(filePath).readIngredientBook().get());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryIngredientBookStorage(testFolder.resolve("none.bin")).readIngredientBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveIngredientBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.bin");
+        IngredientBook original = getTypicalIngredientBook();
+        // a fractional quantity, a very large one and a date before the epoch
+        original.addIngredient(new IngredientBuilder().withName("Cherry").withQuantity(0.25).withDate("1969-12-31")
+                .build());
+        original.addIngredient(new IngredientBuilder().withName("Durian").withQuantity(1e300).build());
+
+        BinaryIngredientBookStorage storage = new BinaryIngredientBookStorage(filePath);
+        storage.saveIngredientBook(original);
+        assertEquals(original, readBack(filePath));
+
+        // Empty book
+        storage.saveIngredientBook(new IngredientBook());
+        assertEquals(new IngredientBook(), readBack(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.bin");
+        new BinaryIngredientBookStorage(filePath).saveIngredientBook(getTypicalIngredientBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> readBack(filePath));
+    }
+
+    @Test
+    public void read_recipeSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("recipes.bin");
+        new BinaryRecipeBookStorage(filePath).saveRecipeBook(new RecipeBook());
+
+        assertThrows(DataConversionException.class, () -> readBack(filePath));
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        new JsonIngredientBookStorage(filePath).saveIngredientBook(getTypicalIngredientBook());
+
+        assertThrows(DataConversionException.class, () -> readBack(filePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameBook() throws Exception {
+        Path jsonFile = testFolder.resolve("ingredients.json");
+        Path binaryFile = testFolder.resolve("ingredients.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        new JsonIngredientBookStorage(jsonFile).saveIngredientBook(getTypicalIngredientBook());
+
+        SnapshotConverter.ingredientsToBinary(jsonFile, binaryFile);
+        assertEquals(getTypicalIngredientBook(), readBack(binaryFile));
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile));
+
+        SnapshotConverter.ingredientsToJson(binaryFile, convertedJsonFile);
+        assertEquals(Files.readString(jsonFile), Files.readString(convertedJsonFile));
+    }
+}
@@ -0,0 +1,64 @@
+package chopchop.storage;
+
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.RecipeBuilder;
+
+public class BinaryRecipeBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveRecipeBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("recipes.bin");
+        RecipeBook original = getTypicalRecipeBook();
+        BinaryRecipeBookStorage storage = new BinaryRecipeBookStorage(filePath);
+
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.removeRecipe(APRICOT_JAM);
+        original.addRecipe(new RecipeBuilder().build());
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+    }
+
+    @Test
+    public void readRecipeBook_moreRecipesThanCached_everyBodyLoaded() throws Exception {
+        Path filePath = testFolder.resolve("recipes.bin");
+        RecipeBook original = new RecipeBook();
+        for (int i = 0; i < BinarySnapshotReader.RECIPE_CACHE_SIZE * 2; i++) {
+            original.addRecipe(new RecipeBuilder().withName("Recipe " + i).withSteps("Step " + i).build());
+        }
+        BinaryRecipeBookStorage storage = new BinaryRecipeBookStorage(filePath);
+        storage.saveRecipeBook(original);
+
+        RecipeBook read = new RecipeBook(storage.readRecipeBook().get());
+        // twice, so that the bodies read first have been dropped from the cache by the second time
+        assertEquals(original, read);
+        assertEquals(original, read);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameBook() throws Exception {
+        Path jsonFile = testFolder.resolve("recipes.json");
+        Path binaryFile = testFolder.resolve("recipes.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        new JsonRecipeBookStorage(jsonFile).saveRecipeBook(getTypicalRecipeBook());
+
+        SnapshotConverter.recipesToBinary(jsonFile, binaryFile);
+        assertEquals(getTypicalRecipeBook(),
+                new RecipeBook(new BinaryRecipeBookStorage(binaryFile).readRecipeBook().get()));
+
+        SnapshotConverter.recipesToJson(binaryFile, convertedJsonFile);
+        assertEquals(getTypicalRecipeBook(),
+                new RecipeBook(new JsonRecipeBookStorage(convertedJsonFile).readRecipeBook().get()));
+    }
+}
@@ -0,0 +1,193 @@
+package chopchop.storage;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.testutil.IngredientBuilder;
+
+public class JournalledIngredientBookStorageTest {
+
+    private static final Ingredient CHERRY = new IngredientBuilder().withName("Cherry").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getJournalFile(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + EntryJournal.JOURNAL_SUFFIX);
+    }
+
+    private IngredientBook readBack(Path filePath) throws Exception {
+        return new IngredientBook(new JournalledIngredientBookStorage(filePath).readIngredientBook().get());
+    }
+
+    private List<Path> getFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(testFolder.resolve("none.json"));
+        assertFalse(storage.readIngredientBook().isPresent());
+    }
+
+    @Test
+    public void startJournal_changesAppendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book);
+        String snapshot = Files.readString(filePath);
+
+        storage.startJournal(book);
+        book.addIngredient(CHERRY);
+        book.removeIngredient(APRICOT);
+        book.setIngredient(BANANA, new IngredientBuilder(BANANA).withQuantity(7).build());
+
+        // the snapshot is left alone, and each change is one line per entry added or removed
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(getJournalFile(filePath)).size());
+
+        storage.close();
+        JournalledIngredientBookStorage reopened = new JournalledIngredientBookStorage(filePath);
+        assertEquals(book, new IngredientBook(reopened.readIngredientBook().get()));
+    }
+
+    @Test
+    public void startJournal_thresholdReached_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath, 2);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book);
+
+        storage.startJournal(book);
+        book.addIngredient(CHERRY);
+        book.removeIngredient(APRICOT);
+        storage.close();
+
+        // the journal has been folded into the snapshot, which the plain json storage can read
+        assertEquals(List.of(filePath), getFiles());
+        assertEquals(book, new IngredientBook(new JsonIngredientBookStorage(filePath).readIngredientBook().get()));
+
+        // records after the compaction continue on from the new snapshot
+        storage.startJournal(book);
+        book.removeIngredient(BANANA);
+        storage.close();
+        assertEquals(book, readBack(filePath));
+    }
+
+    @Test
+    public void saveIngredientBook_journalledBook_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+
+        // the first save writes a snapshot, and later saves of the same book leave it alone
+        storage.saveIngredientBook(book);
+        String snapshot = Files.readString(filePath);
+        book.addIngredient(CHERRY);
+        storage.saveIngredientBook(book);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(getJournalFile(filePath)).size());
+
+        // what was saved is readable without closing the storage
+        assertEquals(book, readBack(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void saveIngredientBook_otherBook_discardsJournal() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book);
+        book.addIngredient(CHERRY);
+
+        IngredientBook otherBook = new IngredientBook(book);
+        storage.saveIngredientBook(otherBook);
+        assertEquals(List.of(filePath), getFiles());
+
+        // only the book saved last is journalled
+        book.removeIngredient(CHERRY);
+        otherBook.removeIngredient(APRICOT);
+        storage.close();
+        assertEquals(otherBook, readBack(filePath));
+    }
+
+    @Test
+    public void saveIngredientBook_otherFile_notJournalled() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book, otherFilePath);
+
+        book.addIngredient(CHERRY);
+        assertEquals(List.of(otherFilePath), getFiles());
+        assertEquals(getTypicalIngredientBook(), readBack(otherFilePath));
+    }
+
+    @Test
+    public void read_partlyWrittenLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book);
+        storage.startJournal(book);
+        book.addIngredient(CHERRY);
+        storage.close();
+
+        Files.writeString(getJournalFile(filePath), "{\"sequence\":2,\"opera", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertEquals(book, readBack(filePath));
+    }
+
+    @Test
+    public void read_missingRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = getTypicalIngredientBook();
+        storage.saveIngredientBook(book);
+        storage.startJournal(book);
+        book.removeIngredient(APRICOT);
+        book.removeIngredient(BANANA);
+        storage.close();
+
+        Path journalFile = getJournalFile(filePath);
+        List<String> records = Files.readAllLines(journalFile);
+        Files.write(journalFile, records.subList(1, records.size()));
+        assertThrows(DataConversionException.class, () ->
+            new JournalledIngredientBookStorage(filePath).readIngredientBook());
+    }
+
+    @Test
+    public void read_journalWithoutSnapshot_replayed() throws Exception {
+        Path filePath = testFolder.resolve("ingredients.json");
+        JournalledIngredientBookStorage storage = new JournalledIngredientBookStorage(filePath);
+        IngredientBook book = new IngredientBook();
+        storage.startJournal(book);
+        book.addIngredient(APRICOT);
+        storage.close();
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(getJournalFile(filePath)));
+        assertEquals(book, readBack(filePath));
+    }
+}
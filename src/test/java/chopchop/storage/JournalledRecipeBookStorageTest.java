@@ -0,0 +1,106 @@
+package chopchop.storage;
+
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.RecipeBuilder;
+
+public class JournalledRecipeBookStorageTest {
+
+    private static final Recipe OMELETTE = new RecipeBuilder().build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getJournalFile(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + EntryJournal.JOURNAL_SUFFIX);
+    }
+
+    private RecipeBook readBack(Path filePath) throws Exception {
+        return new RecipeBook(new JournalledRecipeBookStorage(filePath).readRecipeBook().get());
+    }
+
+    private List<Path> getFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalledRecipeBookStorage storage = new JournalledRecipeBookStorage(testFolder.resolve("none.json"));
+        assertFalse(storage.readRecipeBook().isPresent());
+    }
+
+    @Test
+    public void saveRecipeBook_journalledBook_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("recipes.json");
+        JournalledRecipeBookStorage storage = new JournalledRecipeBookStorage(filePath);
+        RecipeBook book = getTypicalRecipeBook();
+        storage.saveRecipeBook(book);
+        String snapshot = Files.readString(filePath);
+
+        book.addRecipe(OMELETTE);
+        book.removeRecipe(APRICOT_JAM);
+        book.setRecipe(FRUIT_SALAD, new RecipeBuilder(FRUIT_SALAD).withSteps("Slice the fruit").build());
+        storage.saveRecipeBook(book);
+
+        // the snapshot is left alone, and each change is one line per entry added or removed
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(getJournalFile(filePath)).size());
+        assertEquals(book, readBack(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void startJournal_thresholdReached_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("recipes.json");
+        JournalledRecipeBookStorage storage = new JournalledRecipeBookStorage(filePath, 2);
+        RecipeBook book = getTypicalRecipeBook();
+        storage.saveRecipeBook(book);
+
+        book.addRecipe(OMELETTE);
+        book.removeRecipe(APRICOT_JAM);
+        storage.close();
+
+        // the journal has been folded into the snapshot, which the plain json storage can read
+        assertEquals(List.of(filePath), getFiles());
+        assertEquals(book, new RecipeBook(new JsonRecipeBookStorage(filePath).readRecipeBook().get()));
+
+        // records after the compaction continue on from the new snapshot
+        storage.startJournal(book);
+        book.removeRecipe(FRUIT_SALAD);
+        storage.close();
+        assertEquals(book, readBack(filePath));
+    }
+
+    @Test
+    public void saveRecipeBook_otherBook_discardsJournal() throws Exception {
+        Path filePath = testFolder.resolve("recipes.json");
+        JournalledRecipeBookStorage storage = new JournalledRecipeBookStorage(filePath);
+        RecipeBook book = getTypicalRecipeBook();
+        storage.saveRecipeBook(book);
+        book.addRecipe(OMELETTE);
+
+        RecipeBook otherBook = new RecipeBook(book);
+        storage.saveRecipeBook(otherBook);
+        assertEquals(List.of(filePath), getFiles());
+
+        // only the book saved last is journalled
+        book.removeRecipe(OMELETTE);
+        otherBook.removeRecipe(APRICOT_JAM);
+        storage.close();
+        assertEquals(otherBook, readBack(filePath));
+    }
+}
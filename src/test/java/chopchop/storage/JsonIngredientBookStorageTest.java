@@ -0,0 +1,134 @@
+package chopchop.storage;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.commons.core.StorageSettings;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.util.FileUtil;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.ingredient.ReadOnlyIngredientBook;
+
+public class JsonIngredientBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonIngredientBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Optional<ReadOnlyIngredientBook> readIngredientBook(String fileName) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+        return new JsonIngredientBookStorage(filePath).readIngredientBook(filePath);
+    }
+
+    @Test
+    public void readIngredientBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JsonIngredientBookStorage(testFolder).readIngredientBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readIngredientBook("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readIngredientBook("notJsonFormatIngredientBook.json"));
+    }
+
+    @Test
+    public void read_invalidIngredient_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readIngredientBook("invalidIngredientBook.json"));
+    }
+
+    @Test
+    public void read_duplicateIngredients_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readIngredientBook("duplicateIngredientBook.json"));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        ReadOnlyIngredientBook readBack = readIngredientBook("extraFieldsIngredientBook.json").get();
+        assertEquals(Collections.singletonList(APRICOT), readBack.getFoodEntryList());
+    }
+
+    @Test
+    public void readAndSaveIngredientBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempIngredientBook.json");
+        IngredientBook original = getTypicalIngredientBook();
+        JsonIngredientBookStorage storage = new JsonIngredientBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveIngredientBook(original, filePath);
+        ReadOnlyIngredientBook readBack = storage.readIngredientBook(filePath).get();
+        assertEquals(original, new IngredientBook(readBack));
+        assertEquals(APRICOT.getQuantity().value, readBack.getFoodEntryList().get(0).getQuantity().value);
+
+        // Modify data, overwrite existing file, and read back
+        original.removeIngredient(BANANA);
+        storage.saveIngredientBook(original);
+        readBack = storage.readIngredientBook().get();
+        assertEquals(original, new IngredientBook(readBack));
+
+        // Empty book
+        storage.saveIngredientBook(new IngredientBook());
+        assertEquals(new IngredientBook(), new IngredientBook(storage.readIngredientBook().get()));
+    }
+
+    @Test
+    public void readAndSaveIngredientBook_compressed_readEitherWay() throws Exception {
+        Path filePath = testFolder.resolve("TempIngredientBook.json");
+        IngredientBook original = getTypicalIngredientBook();
+
+        new JsonIngredientBookStorage(filePath, new StorageSettings(true, 0)).saveIngredientBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains(APRICOT.getName().toString()));
+
+        // a storage that saves uncompressed still reads compressed files
+        assertEquals(original, new IngredientBook(new JsonIngredientBookStorage(filePath).readIngredientBook().get()));
+    }
+
+    @Test
+    public void saveIngredientBook_withBackups_previousVersionsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempIngredientBook.json");
+        JsonIngredientBookStorage storage = new JsonIngredientBookStorage(filePath, new StorageSettings(false, 2));
+        IngredientBook ingredientBook = new IngredientBook();
+
+        storage.saveIngredientBook(ingredientBook);
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+
+        ingredientBook.addIngredient(APRICOT);
+        storage.saveIngredientBook(ingredientBook);
+        ingredientBook.addIngredient(BANANA);
+        storage.saveIngredientBook(ingredientBook);
+        ingredientBook.removeIngredient(APRICOT);
+        storage.saveIngredientBook(ingredientBook);
+
+        // the oldest version, the empty book, has been rotated out
+        assertEquals(getTypicalIngredientBook(), readBackup(filePath, 1));
+        assertEquals(Collections.singletonList(APRICOT), readBackup(filePath, 2).getFoodEntryList());
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 3)));
+        assertFalse(FileUtil.readFromFile(FileUtil.getBackupPath(filePath, 1))
+            .contains(JsonIngredientBookStorage.INGREDIENTS_FIELD));
+    }
+
+    private IngredientBook readBackup(Path filePath, int generation) throws Exception {
+        Path backupPath = FileUtil.getBackupPath(filePath, generation);
+        return new IngredientBook(new JsonIngredientBookStorage(backupPath).readIngredientBook().get());
+    }
+
+    @Test
+    public void saveIngredientBook_nullIngredientBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JsonIngredientBookStorage(testFolder).saveIngredientBook(null, testFolder.resolve("SomeFile.json")));
+    }
+}
@@ -0,0 +1,90 @@
+package chopchop.storage;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.commons.core.StorageSettings;
+import chopchop.commons.exceptions.DataConversionException;
+import chopchop.commons.util.FileUtil;
+import chopchop.model.recipe.ReadOnlyRecipeBook;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.RecipeBuilder;
+
+public class JsonRecipeBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRecipeBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Optional<ReadOnlyRecipeBook> readRecipeBook(String fileName) throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+        return new JsonRecipeBookStorage(filePath).readRecipeBook(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readRecipeBook("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readRecipeBook("notJsonFormatRecipeBook.json"));
+    }
+
+    @Test
+    public void read_invalidStep_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readRecipeBook("invalidStepRecipeBook.json"));
+    }
+
+    @Test
+    public void read_missingIngredientName_exceptionThrown() {
+        assertThrows(DataConversionException.class, () -> readRecipeBook("missingIngredientNameRecipeBook.json"));
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempRecipeBook.json");
+        RecipeBook original = getTypicalRecipeBook();
+        JsonRecipeBookStorage storage = new JsonRecipeBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveRecipeBook(original, filePath);
+        ReadOnlyRecipeBook readBack = storage.readRecipeBook(filePath).get();
+        assertEquals(original, new RecipeBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.removeRecipe(APRICOT_JAM);
+        original.addRecipe(new RecipeBuilder().build());
+        storage.saveRecipeBook(original);
+        readBack = storage.readRecipeBook().get();
+        assertEquals(original, new RecipeBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_compressedWithBackup_success() throws Exception {
+        Path filePath = testFolder.resolve("TempRecipeBook.json");
+        RecipeBook original = getTypicalRecipeBook();
+        JsonRecipeBookStorage storage = new JsonRecipeBookStorage(filePath, new StorageSettings(true, 1));
+
+        storage.saveRecipeBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains(JsonRecipeBookStorage.RECIPES_FIELD));
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+
+        storage.saveRecipeBook(new RecipeBook());
+        Path backupPath = FileUtil.getBackupPath(filePath, 1);
+        assertEquals(original, new RecipeBook(new JsonRecipeBookStorage(backupPath).readRecipeBook().get()));
+    }
+
+    @Test
+    public void saveRecipeBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JsonRecipeBookStorage(testFolder).saveRecipeBook(new RecipeBook(), null));
+    }
+}
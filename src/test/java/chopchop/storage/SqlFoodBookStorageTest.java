@@ -0,0 +1,151 @@
+package chopchop.storage;
+
+import static chopchop.testutil.Assert.assertThrows;
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import static chopchop.testutil.TypicalIngredients.getTypicalIngredientBook;
+import static chopchop.testutil.TypicalRecipes.APRICOT_JAM;
+import static chopchop.testutil.TypicalRecipes.FRUIT_SALAD;
+import static chopchop.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import chopchop.model.attributes.Name;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.ingredient.IngredientBook;
+import chopchop.model.recipe.RecipeBook;
+import chopchop.testutil.IngredientBuilder;
+import chopchop.testutil.RecipeBuilder;
+
+public class SqlFoodBookStorageTest {
+
+    private static final Ingredient GREEN_APPLE = new IngredientBuilder().withName("Green\tAPPLE  slices")
+            .withDate("2020-11-30").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private SqlFoodBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new SqlFoodBookStorage(testFolder.resolve("chopchop"));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void read_missingDatabase_emptyResult() throws Exception {
+        assertFalse(storage.readIngredientBook().isPresent());
+        assertFalse(storage.readRecipeBook().isPresent());
+        assertEquals(Collections.emptyList(), storage.findIngredients(Arrays.asList("apricot")));
+    }
+
+    @Test
+    public void readAndSaveIngredientBook_allInOrder_success() throws Exception {
+        IngredientBook original = getTypicalIngredientBook();
+        storage.saveIngredientBook(original);
+        assertEquals(original, new IngredientBook(storage.readIngredientBook().get()));
+
+        // Modify data, overwrite the ingredients, and read back
+        original.removeIngredient(APRICOT);
+        original.addIngredient(GREEN_APPLE);
+        storage.saveIngredientBook(original);
+        assertEquals(original, new IngredientBook(storage.readIngredientBook().get()));
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_allInOrder_success() throws Exception {
+        RecipeBook original = getTypicalRecipeBook();
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+
+        // Modify data, overwrite the recipes, and read back
+        original.removeRecipe(APRICOT_JAM);
+        original.addRecipe(new RecipeBuilder().build());
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+    }
+
+    @Test
+    public void saveBooks_eachBookSaved_otherBookKept() throws Exception {
+        storage.saveIngredientBook(getTypicalIngredientBook());
+        storage.saveRecipeBook(getTypicalRecipeBook());
+        storage.saveIngredientBook(new IngredientBook());
+
+        assertEquals(new IngredientBook(), new IngredientBook(storage.readIngredientBook().get()));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(storage.readRecipeBook().get()));
+    }
+
+    @Test
+    public void findIngredients_keywords_wholeWordsIgnoringCase() throws Exception {
+        IngredientBook ingredientBook = getTypicalIngredientBook();
+        ingredientBook.addIngredient(GREEN_APPLE);
+        storage.saveIngredientBook(ingredientBook);
+
+        assertEquals(Arrays.asList(APRICOT, GREEN_APPLE),
+                storage.findIngredients(Arrays.asList("apple", "APRICOT", "slice")));
+        assertEquals(Arrays.asList(GREEN_APPLE), storage.findIngredients(Arrays.asList("Slices")));
+        assertEquals(Collections.emptyList(), storage.findIngredients(Arrays.asList("%", "a_ple")));
+        assertEquals(Collections.emptyList(), storage.findIngredients(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> storage.findIngredients(Arrays.asList("two words")));
+    }
+
+    @Test
+    public void findIngredientsExpiringBefore_date_earliestFirst() throws Exception {
+        IngredientBook ingredientBook = getTypicalIngredientBook();
+        ingredientBook.addIngredient(GREEN_APPLE);
+        storage.saveIngredientBook(ingredientBook);
+
+        assertEquals(Arrays.asList(GREEN_APPLE, APRICOT, BANANA),
+                storage.findIngredientsExpiringBefore(LocalDate.of(2030, 1, 1)));
+        assertEquals(Arrays.asList(GREEN_APPLE), storage.findIngredientsExpiringBefore(LocalDate.of(2020, 12, 1)));
+    }
+
+    @Test
+    public void findRecipes_keywordsAndIngredients_matchingRecipesOnly() throws Exception {
+        storage.saveRecipeBook(getTypicalRecipeBook());
+
+        assertEquals(Arrays.asList(FRUIT_SALAD), storage.findRecipes(Arrays.asList("salad")));
+        assertEquals(Arrays.asList(APRICOT_JAM, FRUIT_SALAD), storage.findRecipesUsing(APRICOT.getName()));
+        assertEquals(Arrays.asList(FRUIT_SALAD), storage.findRecipesUsing(BANANA.getName()));
+        assertEquals(Collections.emptyList(), storage.findRecipesUsing(Name.of("Durian")));
+    }
+
+    @Test
+    public void findRecipes_afterResave_wordsReplaced() throws Exception {
+        RecipeBook recipeBook = getTypicalRecipeBook();
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.removeRecipe(FRUIT_SALAD);
+        storage.saveRecipeBook(recipeBook);
+
+        assertEquals(Collections.emptyList(), storage.findRecipes(Arrays.asList("salad")));
+        assertEquals(Arrays.asList(APRICOT_JAM), storage.findRecipes(Arrays.asList("jam", "salad")));
+    }
+
+    @Test
+    public void close_reopenedOnNextCall() throws Exception {
+        storage.saveIngredientBook(getTypicalIngredientBook());
+        storage.close();
+        storage.close();
+        assertEquals(getTypicalIngredientBook(), new IngredientBook(storage.readIngredientBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void toSearchWords_irregularWhitespace_distinctLowerCaseWords() {
+        assertEquals(new LinkedHashSet<>(Arrays.asList("green", "apple", "slices")),
+                SqlFoodBookStorage.toSearchWords("Green\tAPPLE  slices  apple"));
+    }
+}
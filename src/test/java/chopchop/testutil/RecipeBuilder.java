@@ -0,0 +1,74 @@
+package chopchop.testutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import chopchop.model.attributes.Name;
+import chopchop.model.attributes.Step;
+import chopchop.model.ingredient.Ingredient;
+import chopchop.model.recipe.Recipe;
+
+/**
+ * A utility class to help with building Recipe objects.
+ */
+public class RecipeBuilder {
+
+    public static final String DEFAULT_NAME = "Omelette";
+    public static final String DEFAULT_STEP = "Beat the eggs and fry them";
+
+    private Name name;
+    private Set<Ingredient> ingredients;
+    private List<Step> steps;
+
+    /**
+     * Creates a {@code RecipeBuilder} with the default details.
+     */
+    public RecipeBuilder() {
+        name = new Name(DEFAULT_NAME);
+        ingredients = new HashSet<>(Arrays.asList(new IngredientBuilder().build()));
+        steps = new ArrayList<>(Arrays.asList(new Step(DEFAULT_STEP)));
+    }
+
+    /**
+     * Initializes the RecipeBuilder with the data of {@code recipeToCopy}.
+     */
+    public RecipeBuilder(Recipe recipeToCopy) {
+        name = recipeToCopy.getName();
+        ingredients = new HashSet<>(recipeToCopy.getIngredients());
+        steps = new ArrayList<>(recipeToCopy.getSteps());
+    }
+
+    /**
+     * Sets the {@code Name} of the {@code Recipe} that we are building.
+     */
+    public RecipeBuilder withName(String name) {
+        this.name = new Name(name);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Ingredient}s of the {@code Recipe} that we are building.
+     */
+    public RecipeBuilder withIngredients(Ingredient... ingredients) {
+        this.ingredients = new HashSet<>(Arrays.asList(ingredients));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Step}s of the {@code Recipe} that we are building.
+     */
+    public RecipeBuilder withSteps(String... steps) {
+        this.steps = new ArrayList<>();
+        for (String step : steps) {
+            this.steps.add(new Step(step));
+        }
+        return this;
+    }
+
+    public Recipe build() {
+        return new Recipe(name, ingredients, steps);
+    }
+
+}
@@ -0,0 +1,37 @@
+package chopchop.testutil;
+
+import static chopchop.testutil.TypicalIngredients.APRICOT;
+import static chopchop.testutil.TypicalIngredients.BANANA;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import chopchop.model.recipe.Recipe;
+import chopchop.model.recipe.RecipeBook;
+
+/**
+ * A utility class containing a list of {@code Recipe} objects to be used in tests.
+ */
+public class TypicalRecipes {
+
+    public static final Recipe APRICOT_JAM = new RecipeBuilder().withName("Apricot Jam")
+        .withIngredients(APRICOT).withSteps("Boil the apricots with sugar", "Pour into jars")
+        .build();
+    public static final Recipe FRUIT_SALAD = new RecipeBuilder().withName("Fruit Salad")
+        .withIngredients(APRICOT, BANANA).withSteps("Slice the fruit", "Toss in a bowl")
+        .build();
+
+    /**
+     * Returns a {@code RecipeBook} with all the typical recipes.
+     */
+    public static RecipeBook getTypicalRecipeBook() {
+        RecipeBook rb = new RecipeBook();
+        for (Recipe recipe : getTypicalRecipes()) {
+            rb.addRecipe(recipe);
+        }
+        return rb;
+    }
+
+    public static List<Recipe> getTypicalRecipes() {
+        return new ArrayList<>(Arrays.asList(APRICOT_JAM, FRUIT_SALAD));
+    }
+}
@@ -1,58 +1,56 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.lang.reflect.Method;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.application.Application;
-
 public class AppParametersTest {
 
-    private final ParametersStub parametersStub = new ParametersStub();
     private final AppParameters expected = new AppParameters();
 
     @Test
-    public void parse_validConfigPath_success() {
-        parametersStub.namedParameters.put("config", "config.json");
+    public void parse_headlessArgs_success() {
         expected.setConfigPath(Paths.get("config.json"));
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        expected.setHeadless(true);
+        expected.setScriptPath(Paths.get("delivery.txt"));
+        assertEquals(expected, AppParameters.parse(
+                new String[] {"--headless", "--config=config.json", "--script=delivery.txt", "unnamed"}));
     }
 
     @Test
-    public void parse_nullConfigPath_success() {
-        parametersStub.namedParameters.put("config", null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+    public void parse_noArgs_notHeadless() {
+        assertEquals(expected, AppParameters.parse(new String[0]));
     }
 
     @Test
-    public void parse_invalidConfigPath_success() {
-        parametersStub.namedParameters.put("config", "a\0");
-        expected.setConfigPath(null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+    public void parse_invalidScriptPath_readsStandardInput() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless", "--script=a\0"}));
     }
 
-    private static class ParametersStub extends Application.Parameters {
-        private Map<String, String> namedParameters = new HashMap<>();
-
-        @Override
-        public List<String> getRaw() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_apiPort_success() {
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=8080"}));
+    }
 
-        @Override
-        public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_invalidApiPort_apiNotServed() {
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=http"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=0"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=65536"}));
+    }
 
-        @Override
-        public Map<String, String> getNamed() {
-            return Collections.unmodifiableMap(namedParameters);
+    @Test
+    public void parse_headlessPath_doesNotNeedJavaFx() {
+        for (Method method : AppParameters.class.getDeclaredMethods()) {
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                assertFalse(parameterType.getName().startsWith("javafx."), method.toString());
+            }
         }
     }
 }
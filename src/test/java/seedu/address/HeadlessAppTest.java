@@ -0,0 +1,140 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        app = new HeadlessApp(new LogicManager(model, storage), new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        String input = ADD_COMMAND + "\n\n" + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, app.run(new BufferedReader(new StringReader(input))));
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+        assertEquals(lines(String.format(AddCommand.MESSAGE_SUCCESS, expectedModel.getFilteredPersonList().get(0)),
+                ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_continuesAndFails() throws Exception {
+        String input = "uicfhmowqewca\n" + ListCommand.COMMAND_WORD;
+
+        assertEquals(HeadlessApp.EXIT_STATUS_FAILURE, app.run(new BufferedReader(new StringReader(input))));
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        String input = ExitCommand.COMMAND_WORD + "\n" + ADD_COMMAND;
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, app.run(new BufferedReader(new StringReader(input))));
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void launch_validScript_savesAndSucceeds() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("data").resolve("addressBook.json");
+
+        assertEquals(HeadlessApp.EXIT_STATUS_SUCCESS, HeadlessApp.launch(createParameters(addressBookPath)));
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void launch_addressBookCannotBeSaved_fails() throws Exception {
+        // the address book's folder is a file, so the address book cannot be written
+        Path blocker = Files.createFile(temporaryFolder.resolve("blocker"));
+
+        assertEquals(HeadlessApp.EXIT_STATUS_FAILURE,
+                HeadlessApp.launch(createParameters(blocker.resolve("addressBook.json"))));
+    }
+
+    /**
+     * Returns the parameters to run {@code ADD_COMMAND} headless, saving the address book to
+     * {@code addressBookPath} and everything else in the temporary folder.
+     */
+    private AppParameters createParameters(Path addressBookPath) throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookPath);
+        Path userPrefsPath = temporaryFolder.resolve("userPrefs.json");
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        Path configPath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, ADD_COMMAND);
+
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(configPath);
+        appParameters.setHeadless(true);
+        appParameters.setScriptPath(scriptPath);
+        return appParameters;
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
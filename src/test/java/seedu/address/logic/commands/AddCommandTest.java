@@ -118,11 +118,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void restoreAddressBook(ReadOnlyAddressBook addressBook, long version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +157,21 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void deferFilterUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyDeferredFilterUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardDeferredFilterUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+public class RunCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        RunCommand runCommand = new RunCommand(
+                Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_FIRST_PERSON)),
+                Arrays.asList(1, 2));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_filterUpdated_indexesReferToListDisplayedBefore() {
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Benson")));
+        // adding a person shows all persons, but only after the delete has used the list showing just Benson
+        RunCommand runCommand = new RunCommand(Arrays.asList(new AddCommand(AMY),
+                new DeleteCommand(INDEX_FIRST_PERSON)), Arrays.asList(1, 2));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_noChangesKept() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        RunCommand runCommand = new RunCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(outOfBoundIndex)), Arrays.asList(1, 4));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_COMMAND_FAILED, 4,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+
+        long versionBefore = model.getAddressBookVersion();
+        assertCommandFailure(runCommand, model, expectedMessage);
+        // restoring the address book does not count as a change, so it need not be saved again
+        assertEquals(versionBefore, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_commandThrowsUnexpectedly_noChangesKeptAndFilterNotDeferred() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalStateException("Unexpected failure");
+            }
+        };
+        RunCommand runCommand = new RunCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON), failingCommand),
+                Arrays.asList(1, 2));
+
+        long versionBefore = model.getAddressBookVersion();
+        assertThrows(IllegalStateException.class, "Unexpected failure", () -> runCommand.execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(versionBefore, model.getAddressBookVersion());
+
+        // filter updates take effect straight away again
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON)),
+                Arrays.asList(1));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON)),
+                Arrays.asList(1))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different line numbers -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON)),
+                Arrays.asList(2))));
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_COMMAND_NOT_IN_SCRIPT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SCRIPT_LINE;
+import static seedu.address.commons.core.Messages.MESSAGE_NESTED_SCRIPT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +26,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -98,4 +103,55 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseScript_blankAndCommentLines_skipped() throws Exception {
+        List<String> lines = Arrays.asList("# delivery", DeleteCommand.COMMAND_WORD + " 1", "   ",
+                DeleteCommand.COMMAND_WORD + " 2");
+        RunCommand expectedCommand = new RunCommand(
+                Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_SECOND_PERSON)),
+                Arrays.asList(2, 4));
+        assertEquals(expectedCommand, parser.parseScript(lines));
+    }
+
+    @Test
+    public void parseScript_invalidLine_throwsParseExceptionWithLineNumber() {
+        List<String> lines = Arrays.asList(DeleteCommand.COMMAND_WORD + " 1", "", "unknownCommand");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 3, MESSAGE_UNKNOWN_COMMAND), ()
+            -> parser.parseScript(lines));
+    }
+
+    @Test
+    public void parseScript_exitOrHelpCommand_throwsParseException() {
+        List<String> lines = Arrays.asList(DeleteCommand.COMMAND_WORD + " 1", ExitCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 2,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, ExitCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(lines));
+
+        List<String> helpLines = Arrays.asList(HelpCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, HelpCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(helpLines));
+    }
+
+    @Test
+    public void parseScript_findThenDelete_throwsParseException() {
+        // the find would only be shown after the script, so the delete would not refer to the person found
+        List<String> lines = Arrays.asList(FindCommand.COMMAND_WORD + " alice", DeleteCommand.COMMAND_WORD + " 1");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, FindCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(lines));
+
+        List<String> listLines = Arrays.asList(DeleteCommand.COMMAND_WORD + " 1", ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 2,
+                String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, ListCommand.COMMAND_WORD)), ()
+            -> parser.parseScript(listLines));
+    }
+
+    @Test
+    public void parseScript_runCommand_throwsParseException() {
+        List<String> lines = Arrays.asList(RunCommand.COMMAND_WORD + " script.txt");
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SCRIPT_LINE, 1, MESSAGE_NESTED_SCRIPT), ()
+            -> parser.parseScript(lines));
+    }
 }
@@ -136,6 +136,34 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestMatchTaken() {
+        Prefix pSlashQ = new Prefix("p/q");
+        String argsString = "preamble p/q pSlashQ value p/ pSlash value p/qp/ joined";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashQ);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, pSlashQ, "pSlashQ value", "p/ joined");
+
+        // the same prefixes in another order are compiled separately, and give the same result
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlashQ, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, pSlashQ, "pSlashQ value", "p/ joined");
+    }
+
+    @Test
+    public void tokenize_manyRepeats_valuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[100];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "step " + i;
+            argsString.append(" -t ").append(expectedValues[i]).append(" ^Q");
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), dashT, hatQ);
+        assertArgumentPresent(argMultimap, dashT, expectedValues);
+        assertEquals(expectedValues.length, argMultimap.getAllValues(hatQ).size());
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -93,6 +93,37 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void deferFilterUpdates_filterUpdated_appliesLastFilterOnlyWhenApplied() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.deferFilterUpdates();
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.updateFilteredPersonList(ALICE::equals);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.applyDeferredFilterUpdates();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // no longer deferred
+        modelManager.updateFilteredPersonList(BENSON::equals);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void discardDeferredFilterUpdates_filterUpdated_keepsFilter() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.deferFilterUpdates();
+        modelManager.updateFilteredPersonList(ALICE::equals);
+        modelManager.discardDeferredFilterUpdates();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // a later apply has nothing to apply
+        modelManager.applyDeferredFilterUpdates();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+public class WriteBehindStorageTest {
+
+    /** Long enough that no background write happens while a test runs. */
+    private static final long NEVER = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_severalSaves_writtenOnceOnFlush() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, NEVER);
+
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(recordingStorage.saved.isEmpty());
+
+        storage.flush();
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(addressBook, new AddressBook(recordingStorage.saved.get(0)));
+
+        // nothing left to write
+        storage.flush();
+        assertEquals(1, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotUnchanged() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, NEVER);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.close();
+        assertEquals(expected, new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_writtenInBackground() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, 0);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        recordingStorage.firstSave.get(10, TimeUnit.SECONDS);
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFails_handlerCalled() throws Exception {
+        IOException failure = new IOException("disk full");
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = failure;
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, 0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storage.setSaveFailureHandler(reported::complete);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertSame(failure, reported.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_writeFails_snapshotKeptForLaterFlush() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, NEVER);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+
+        recordingStorage.failure = null;
+        storage.flush();
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void close_writeFails_snapshotKeptForLaterClose() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, NEVER);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::close);
+
+        // the failed snapshot is still there for a retry
+        recordingStorage.failure = null;
+        storage.close();
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void flush_writeFailsThenNewerSave_newerSnapshotWritten() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, NEVER);
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, storage::flush);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        recordingStorage.failure = null;
+        storage.flush();
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFails_retriedInBackground() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, 0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storage.setSaveFailureHandler(e -> {
+            reported.complete(e);
+            recordingStorage.failure = null;
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        recordingStorage.firstSave.get(10, TimeUnit.SECONDS);
+        assertTrue(reported.isDone());
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.saved.get(0)));
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsLatestData() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        WriteBehindStorage storage = new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage), NEVER);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook retrieved = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    /**
+     * A {@code Storage} that remembers the address books it is asked to save.
+     */
+    private static class RecordingStorage implements Storage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CompletableFuture<Void> firstSave = new CompletableFuture<>();
+        private volatile IOException failure;
+
+        @Override
+        public Path getUserPrefsFilePath() {
+            return Paths.get("prefs");
+        }
+
+        @Override
+        public Optional<UserPrefs> readUserPrefs() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("ab");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+            firstSave.complete(null);
+        }
+    }
+}